@@ -3,12 +3,14 @@ package com.BugJava.EduConnect.auth.controller;
 import com.BugJava.EduConnect.auth.dto.LoginRequest;
 import com.BugJava.EduConnect.auth.dto.RegisterRequest;
 import com.BugJava.EduConnect.auth.dto.TokenDto;
+import com.BugJava.EduConnect.auth.exception.InvalidAccessTokenException;
 import com.BugJava.EduConnect.auth.service.AuthService;
 import com.BugJava.EduConnect.common.dto.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -40,6 +42,16 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success(null, "로그아웃이 완료되었습니다."));
     }
 
+    // 모든 기기에서 로그아웃 (access token 필요)
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<Object>> logoutAll(@AuthenticationPrincipal Long userId) {
+        if (userId == null) {
+            throw new InvalidAccessTokenException("인증 정보가 없습니다.");
+        }
+        authService.logoutAll(userId);
+        return ResponseEntity.ok(ApiResponse.success(null, "모든 기기에서 로그아웃되었습니다."));
+    }
+
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<TokenDto>> refresh(@Valid @RequestBody TokenDto tokendto) {
         TokenDto newTokens = authService.refreshToken(tokendto);
@@ -1,6 +1,6 @@
 package com.BugJava.EduConnect.auth.controller;
 
-import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.dto.UserResponse;
 import com.BugJava.EduConnect.auth.repository.UserRepository;
 import com.BugJava.EduConnect.common.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -25,8 +25,9 @@ public class UserController {
      * 현재 로그인한 사용자의 정보를 조회
      */
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<Users>> getCurrentUser(@AuthenticationPrincipal Long userId) {
-        Users user = userRepository.findById(userId)
+    public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser(@AuthenticationPrincipal Long userId) {
+        UserResponse user = userRepository.findById(userId)
+                .map(UserResponse::from)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         return ResponseEntity.ok(ApiResponse.success(user, "사용자 정보 조회 성공"));
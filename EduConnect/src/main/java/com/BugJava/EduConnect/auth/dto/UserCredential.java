@@ -0,0 +1,13 @@
+package com.BugJava.EduConnect.auth.dto;
+
+import com.BugJava.EduConnect.auth.enums.Role;
+
+/**
+ * 로그인 검증용 projection (엔티티 전체 대신 필요한 컬럼만 조회)
+ * @author rua
+ */
+public interface UserCredential {
+    Long getId();
+    String getPassword();
+    Role getRole();
+}
@@ -0,0 +1,25 @@
+package com.BugJava.EduConnect.auth.dto;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import lombok.*;
+
+/**
+ * 사용자 정보 응답 (엔티티 대신 반환 - 비밀번호 해시 등 내부 필드 제외)
+ * @author rua
+ */
+
+@Getter
+@AllArgsConstructor
+public class UserResponse {
+    private Long id;
+    private String email;
+    private String name;
+    private Role role;
+    private Track track;
+
+    public static UserResponse from(Users user) {
+        return new UserResponse(user.getId(), user.getEmail(), user.getName(), user.getRole(), user.getTrack());
+    }
+}
@@ -0,0 +1,10 @@
+package com.BugJava.EduConnect.auth.dto;
+
+/**
+ * 사용자 단위 폐기 epoch projection (UserRevocationService 워밍업/동기화용)
+ * @author rua
+ */
+public interface UserRevocation {
+    Long getId();
+    Long getTokensValidAfter();
+}
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class Users extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 100)
@@ -46,6 +47,10 @@ public class Users extends BaseEntity {
     @Column(nullable = false)
     private Track track;
 
+    // 이 시각(epoch 초) 이전에 발급된 토큰은 모두 폐기 - UserRevocationService가 기록/조회
+    @Column
+    private Long tokensValidAfter;
+
     public void updateProfile(String name, Track track) {
         this.name = name;
         this.track = track;
@@ -1,6 +1,10 @@
 package com.BugJava.EduConnect.auth.enums;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * @author rua
@@ -8,6 +12,42 @@ import java.util.Arrays;
 public enum Role {
     STUDENT, INSTRUCTOR, ADMIN;
 
+    // 역할별로 한 번만 만들어 공유 (요청마다 "ROLE_" 문자열/권한 객체를 새로 만들지 않도록)
+    private final GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + name());
+    private final List<GrantedAuthority> authorities = List.of(authority);
+    private final int mask = 1 << ordinal();
+
+    public GrantedAuthority authority() {
+        return authority;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return authorities;
+    }
+
+    /** 역할 비트 (여러 역할 검사는 mask 하나로 AND 연산) */
+    public int mask() {
+        return mask;
+    }
+
+    public static int maskOf(Role... roles) {
+        int result = 0;
+        for (Role role : roles) {
+            result |= role.mask;
+        }
+        return result;
+    }
+
+    /** "ROLE_ADMIN" 형태의 권한 문자열 → 역할 비트 (알 수 없는 권한은 0) */
+    public static int maskOfAuthority(String authority) {
+        for (Role role : values()) {
+            if (role.authority.getAuthority().equals(authority)) {
+                return role.mask;
+            }
+        }
+        return 0;
+    }
+
     public static Role fromString(String str) {
         if (str == null) {
             throw new IllegalArgumentException("Role cannot be null.");
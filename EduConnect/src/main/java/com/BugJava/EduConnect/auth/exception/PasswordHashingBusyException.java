@@ -0,0 +1,17 @@
+package com.BugJava.EduConnect.auth.exception;
+
+import lombok.Getter;
+
+/**
+ * 비밀번호 해싱 대기열이 가득 찬 경우 (잠시 후 재시도 요청)
+ * @author rua
+ */
+@Getter
+public class PasswordHashingBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,23 @@
+package com.BugJava.EduConnect.auth.repository;
+
+import com.BugJava.EduConnect.common.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * @author rua
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+    // 기동 시 워밍업용 - 아직 유효한 토큰만
+    List<RefreshToken> findAllByExpiryGreaterThan(Long now);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiry <= :now")
+    int deleteExpired(@Param("now") Long now);
+}
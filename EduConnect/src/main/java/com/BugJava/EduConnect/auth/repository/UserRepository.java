@@ -1,9 +1,16 @@
 package com.BugJava.EduConnect.auth.repository;
 
+import com.BugJava.EduConnect.auth.dto.UserCredential;
+import com.BugJava.EduConnect.auth.dto.UserRevocation;
 import com.BugJava.EduConnect.auth.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,4 +21,19 @@ public interface UserRepository extends JpaRepository<Users, Long> {
     // 쿼리 메서드 선언만 하면 스프링이 자동 구현
     Optional<Users> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 로그인용 - 조회만 짧게 끝내고 커넥션 반납 (BCrypt 검증은 트랜잭션 밖에서)
+    @Transactional(readOnly = true)
+    Optional<UserCredential> findCredentialByEmail(String email);
+
+    // 폐기 epoch는 앞으로만 이동 (동시에 폐기돼도 더 늦은 값 유지)
+    @Transactional
+    @Modifying
+    @Query("update Users u set u.tokensValidAfter = :notBefore " +
+            "where u.id = :userId and (u.tokensValidAfter is null or u.tokensValidAfter < :notBefore)")
+    int raiseTokensValidAfter(@Param("userId") Long userId, @Param("notBefore") long notBefore);
+
+    // 아직 효력이 있는 폐기 epoch만 (since 이후)
+    @Transactional(readOnly = true)
+    List<UserRevocation> findByTokensValidAfterGreaterThan(Long since);
 }
@@ -3,37 +3,44 @@ package com.BugJava.EduConnect.auth.service;
 import com.BugJava.EduConnect.auth.dto.LoginRequest;
 import com.BugJava.EduConnect.auth.dto.RegisterRequest;
 import com.BugJava.EduConnect.auth.dto.TokenDto;
+import com.BugJava.EduConnect.auth.dto.UserCredential;
 import com.BugJava.EduConnect.auth.entity.Users;
 import com.BugJava.EduConnect.auth.enums.Role;
 import com.BugJava.EduConnect.auth.exception.InvalidEmailPasswordException;
 import com.BugJava.EduConnect.auth.exception.InvalidRefreshTokenException;
 import com.BugJava.EduConnect.auth.repository.UserRepository;
 import com.BugJava.EduConnect.auth.exception.DuplicateEmailException;
+import com.BugJava.EduConnect.common.dto.JwtPrincipal;
 import com.BugJava.EduConnect.common.service.JwtTokenProvider;
-import com.BugJava.EduConnect.common.service.InMemoryTokenBlacklistService;
-import jakarta.transaction.Transactional;
+import com.BugJava.EduConnect.common.service.TokenBlacklistService;
+import com.BugJava.EduConnect.common.service.UserRevocationService;
+import com.BugJava.EduConnect.common.util.TokenDigest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Date;
 
 /**
+ * 클래스 단위 트랜잭션을 두지 않는다.
+ * - DB 접근은 각 Repository 호출의 짧은 트랜잭션으로 끝내고,
+ *   BCrypt 해싱/JWT 서명은 커넥션을 잡지 않은 상태에서 수행 (로그인 폭주 시에도 커넥션 풀 유지)
  * @author rua
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor; // BCrypt는 전용 스레드에서만 실행
     private final JwtTokenProvider jwtTokenProvider;
-    private final InMemoryTokenBlacklistService blacklistService;
+    private final TokenBlacklistService blacklistService;
     private final RefreshTokenStore refreshTokenStore; // InMemory/Redis 중 하나 주입
+    private final UserRevocationService userRevocationService;
 
     public Users register(RegisterRequest request) {
         // 1. 이메일 중복 체크
@@ -41,7 +48,7 @@ public class AuthService {
             throw new DuplicateEmailException("이미 사용중인 이메일입니다.");
         }
         // 2. 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHashingExecutor.encode(request.getPassword());
 
         // 3. Users 엔티티 생성 (빌더 패턴 + 기본값 포함)
         Users user = Users.builder()
@@ -53,20 +60,25 @@ public class AuthService {
                 .isDeleted(false)
                 .deletedAt(null)
                 .build();
-        return userRepository.save(user);
+        try {
+            return userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // 1번 체크 이후 해싱하는 사이 같은 이메일로 먼저 가입된 경우 (email unique 제약)
+            throw new DuplicateEmailException("이미 사용중인 이메일입니다.");
+        }
     }
 
     public TokenDto login(LoginRequest request) {
-        // 1. 이메일로 유저 조회
-        Users user = userRepository.findByEmail(request.getEmail())
+        // 1. 이메일로 인증 정보만 조회 (짧은 읽기 전용 트랜잭션, 여기서 커넥션 반납)
+        UserCredential user = userRepository.findCredentialByEmail(request.getEmail())
                 .orElseThrow(() -> new InvalidEmailPasswordException("Invalid email or password"));
 
-        // 2. 비밀번호 일치 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 2. 비밀번호 일치 확인 (커넥션 없이)
+        if (!passwordHashingExecutor.matches(request.getPassword(), user.getPassword())) {
             throw new InvalidEmailPasswordException("Invalid email or password");
         }
 
-        // 3. 토큰 발급
+        // 3. 토큰 발급 (커넥션 없이)
         String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getRole());
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), user.getRole());
         // RefreshToken 만료일 추출
@@ -79,40 +91,59 @@ public class AuthService {
 
     public void logout(TokenDto token) {
         // 1. RefreshToken 삭제
-        Long userId = jwtTokenProvider.getUserIdFromToken(token.getRefreshToken());
-        refreshTokenStore.delete(userId);
+        JwtPrincipal refreshPrincipal = jwtTokenProvider.verify(token.getRefreshToken())
+                .orElseThrow(() -> new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다."));
+        refreshTokenStore.delete(refreshPrincipal.userId());
 
-        // 2. AccessToken 만료 시간 추출
+        // 2. AccessToken 만료 시간 추출 (이미 만료/위조된 토큰은 필터에서 걸러지므로 블랙리스트 불필요)
         String accessToken = token.getAccessToken();
-        Date expiry = jwtTokenProvider.getExpiryFromToken(accessToken);
+        jwtTokenProvider.verify(accessToken).ifPresent(accessPrincipal -> {
+            // 3. 블랙리스트에 저장 (만료 시점까지)
+            blacklistService.addToBlacklist(accessToken, Instant.ofEpochMilli(accessPrincipal.expiresAt())
+                    .atZone(ZoneId.systemDefault())
+                    .toLocalDateTime());
+            // 4. 검증 캐시에서도 제거 (필터는 블랙리스트를 매번 확인하지만 캐시에 남겨둘 이유가 없음)
+            jwtTokenProvider.evict(accessToken);
+        });
+    }
+
+    // 모든 기기 로그아웃 - 토큰을 하나씩 블랙리스트에 넣지 않고 사용자 폐기 epoch 한 번 기록
+    public void logoutAll(Long userId) {
+        revokeAllTokens(userId);
+    }
 
-        // 3. 블랙리스트에 저장 (만료 시점까지)
-        blacklistService.addToBlacklist(accessToken, expiry.toInstant()
-                .atZone(ZoneId.systemDefault())
-                .toLocalDateTime());
+    // 지금까지 발급된 해당 사용자의 access/refresh 토큰 전부 무효화 (강제 로그아웃, 권한 변경 시 사용)
+    public void revokeAllTokens(Long userId) {
+        userRevocationService.revokeAll(userId);
+        refreshTokenStore.delete(userId);
     }
 
     // Refresh 토큰 재발급
     public TokenDto refreshToken(TokenDto tokendto) {
         // 리프레쉬 토큰만 필요, 해더에 받아 진행시키기.
         String refreshToken = tokendto.getRefreshToken();
-        // 1. 토큰 기본 유효성 검증 (서명, exp 등)
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다.");
+        // 1. 토큰 기본 유효성 검증 (서명, exp 등) + 2. userId 추출 (한 번의 파싱)
+        JwtPrincipal principal = jwtTokenProvider.verify(refreshToken)
+                .orElseThrow(() -> new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다."));
+        if (userRevocationService.isRevoked(principal)) {
+            throw new InvalidRefreshTokenException("폐기된 리프레시 토큰입니다.");
+        }
+        Long userId = principal.userId();
+
+        // 3. 저장소에서 해당 유저의 토큰 digest 가져오기 (만료 체크는 내부 get에서!)
+        TokenDigest presented = TokenDigest.of(refreshToken);
+        TokenDigest stored = refreshTokenStore.get(userId);
+        if (stored != null && !stored.equals(presented)) {
+            // 다른 인스턴스에서 교체된 토큰이면 메모리 값이 예전 것일 수 있음 → 원본 저장소에서 다시 확인
+            stored = refreshTokenStore.reload(userId);
         }
 
-        // 2. userId 추출
-        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
-
-        // 3. 저장소에서 해당 유저의 토큰 가져오기 (만료 체크는 내부 get에서!)
-        String storedToken = refreshTokenStore.get(userId);
-
-        if (storedToken == null) {
+        if (stored == null) {
             throw new InvalidRefreshTokenException("리프레시 토큰이 존재하지 않습니다. (만료/로그아웃 등)");
         }
 
-        // 4. 저장소(메모리/Redis)에서 토큰 일치 여부 체크
-        if (!refreshToken.equals(storedToken)) {
+        // 4. 저장소(메모리/DB)의 digest와 일치 여부 체크
+        if (!presented.equals(stored)) {
             throw new InvalidRefreshTokenException("리프레시 토큰이 일치하지 않습니다.");
         }
 
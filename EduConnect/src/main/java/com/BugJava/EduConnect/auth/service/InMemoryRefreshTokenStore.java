@@ -1,45 +1,68 @@
 package com.BugJava.EduConnect.auth.service;
 
+import com.BugJava.EduConnect.common.service.ExpiryWheel;
+import com.BugJava.EduConnect.common.util.TokenDigest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * 메모리 전용 저장소 (auth.refresh-token.store=memory) - 재시작 시 모든 토큰이 사라진다.
  * @author rua
  */
 @Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "memory")
+@RequiredArgsConstructor
 public class InMemoryRefreshTokenStore implements RefreshTokenStore {
     private final ConcurrentHashMap<Long, TokenInfo> store = new ConcurrentHashMap<>();
 
+    // 다시 접속하지 않는 사용자의 토큰도 만료 시점에 제거되도록 등록
+    private final ExpiryWheel expiryWheel;
+
     // 1. 토큰 정보(값+만료)를 담는 내부 클래스(혹은 별도 파일)
     private static class TokenInfo {
-        final String token;
+        final TokenDigest digest;
         final long expiresAt;
-        TokenInfo(String token, long expiresAt) {
-            this.token = token;
+        ExpiryWheel.Registration registration;
+        TokenInfo(TokenDigest digest, long expiresAt) {
+            this.digest = digest;
             this.expiresAt = expiresAt;
         }
     }
 
     @Override
     public void save(Long userId, String refreshToken, long expiresAt) {
-        store.put(userId, new TokenInfo(refreshToken, expiresAt));
+        TokenInfo info = new TokenInfo(TokenDigest.of(refreshToken), expiresAt);
+        // 같은 TokenInfo일 때만 제거 → 그 사이 새 토큰으로 교체됐다면 건드리지 않는다.
+        info.registration = expiryWheel.schedule(expiresAt, () -> store.remove(userId, info));
+        TokenInfo previous = store.put(userId, info);
+        if (previous != null && previous.registration != null) {
+            previous.registration.cancel();
+        }
     }
 
     @Override
-    public String get(Long userId) {
+    public TokenDigest get(Long userId) {
         TokenInfo info = store.get(userId);
         if (info == null) return null;
         if (System.currentTimeMillis() > info.expiresAt) {
-            store.remove(userId); // 만료시 자동 삭제
+            // 만료 직후 ~ 다음 tick 사이 구간은 여기서 처리
+            if (store.remove(userId, info)) {
+                info.registration.cancel();
+            }
             return null;
         }
-        return info.token;
+        return info.digest;
     }
 
     @Override
     public void delete(Long userId) {
         // 비인가 접근을 통한 Logout 요청시 어떻게 반환하는지.
-        store.remove(userId);
+        TokenInfo removed = store.remove(userId);
+        if (removed != null && removed.registration != null) {
+            removed.registration.cancel();
+        }
     }
 }
@@ -0,0 +1,217 @@
+package com.BugJava.EduConnect.auth.service;
+
+import com.BugJava.EduConnect.auth.repository.RefreshTokenRepository;
+import com.BugJava.EduConnect.common.entity.RefreshToken;
+import com.BugJava.EduConnect.common.service.ExpiryWheel;
+import com.BugJava.EduConnect.common.util.TokenDigest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RefreshToken 테이블 기반 저장소 (재시작/롤링 배포 후에도 로그인 유지)
+ * - 읽기: 메모리(hot) Map 우선, 없으면 테이블에서 읽어 채운다. (read-through)
+ *   다른 인스턴스(롤링 배포/다중 인스턴스)가 워밍업 이후 발급/교체한 토큰도 찾을 수 있도록
+ *   메모리 값과 다른 토큰이 오면 reload()로 테이블을 다시 확인
+ * - 토큰 원문은 저장하지 않는다: 메모리/테이블 모두 TokenDigest(SHA-256 앞 128bit, 16진수)만 보관
+ * - 쓰기: 메모리에 즉시 반영 후 사용자별 마지막 변경만 모아 두었다가 주기적으로 일괄 반영(write-behind)
+ * - 기동 시 테이블의 유효한 토큰으로 메모리를 채우고 만료된 행은 정리한다.
+ * - 전환: auth.refresh-token.store=memory 이면 InMemoryRefreshTokenStore 사용
+ * @author rua
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+@Slf4j
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    // 삭제 예약 표시 (pending 값으로만 사용)
+    private static final TokenInfo DELETED = new TokenInfo(null, 0L);
+
+    private final ConcurrentHashMap<Long, TokenInfo> hot = new ConcurrentHashMap<>();
+    // userId → 아직 DB에 반영되지 않은 마지막 변경 (같은 사용자의 연속 변경은 하나로 합쳐짐)
+    private final ConcurrentHashMap<Long, TokenInfo> pending = new ConcurrentHashMap<>();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExpiryWheel expiryWheel;
+    private final int flushBatchSize;
+
+    public JpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                                TransactionTemplate transactionTemplate,
+                                ExpiryWheel expiryWheel,
+                                @Value("${auth.refresh-token.flush-batch-size:500}") int flushBatchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.expiryWheel = expiryWheel;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    private static class TokenInfo {
+        final TokenDigest digest;
+        final long expiresAt;
+        ExpiryWheel.Registration registration;
+        TokenInfo(TokenDigest digest, long expiresAt) {
+            this.digest = digest;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    @Override
+    public void save(Long userId, String refreshToken, long expiresAt) {
+        TokenInfo info = new TokenInfo(TokenDigest.of(refreshToken), expiresAt);
+        cache(userId, info);
+        pending.put(userId, info);
+    }
+
+    @Override
+    public TokenDigest get(Long userId) {
+        TokenInfo info = hot.get(userId);
+        if (info == null) {
+            // 아직 반영되지 않은 삭제가 있으면 테이블의 예전 행을 되살리지 않는다.
+            return pending.get(userId) == DELETED ? null : load(userId);
+        }
+        if (System.currentTimeMillis() > info.expiresAt) {
+            expire(userId, info);
+            return null;
+        }
+        return info.digest;
+    }
+
+    @Override
+    public TokenDigest reload(Long userId) {
+        // 이 인스턴스에 아직 반영되지 않은 변경이 있으면 그것이 최신
+        return pending.containsKey(userId) ? get(userId) : load(userId);
+    }
+
+    @Override
+    public void delete(Long userId) {
+        TokenInfo removed = hot.remove(userId);
+        if (removed != null) {
+            removed.registration.cancel();
+        }
+        pending.put(userId, DELETED);
+    }
+
+    // 워밍업: 유효한 토큰은 메모리로, 만료된 행은 삭제
+    @PostConstruct
+    void warmUp() {
+        long now = System.currentTimeMillis();
+        List<RefreshToken> tokens = refreshTokenRepository.findAllByExpiryGreaterThan(now);
+        for (RefreshToken token : tokens) {
+            try {
+                cache(Long.valueOf(token.getUsername()), new TokenInfo(TokenDigest.fromHex(token.getToken()), token.getExpiry()));
+            } catch (NumberFormatException e) {
+                log.warn("Skipping refresh token row with non-numeric key: {}", token.getUsername());
+            }
+        }
+        Integer purged = transactionTemplate.execute(status -> refreshTokenRepository.deleteExpired(now));
+        log.info("Refresh token store warmed up: {} active, {} expired rows purged", tokens.size(), purged);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token.flush-interval-millis:1000}")
+    public void flush() {
+        while (!pending.isEmpty()) {
+            if (!flushBatch()) {
+                return; // 실패한 변경은 다시 쌓였으므로 다음 주기에 재시도
+            }
+        }
+    }
+
+    // 종료 직전 남은 변경 반영
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("Refresh token changes not persisted on shutdown: {}", pending.size());
+        }
+    }
+
+    private boolean flushBatch() {
+        // 1. 최대 batch 크기만큼 떼어낸다. (떼어낸 뒤 들어온 변경은 다음 배치로)
+        Map<Long, TokenInfo> batch = new HashMap<>();
+        Iterator<Long> keys = pending.keySet().iterator();
+        while (keys.hasNext() && batch.size() < flushBatchSize) {
+            Long userId = keys.next();
+            TokenInfo op = pending.remove(userId);
+            if (op != null) {
+                batch.put(userId, op);
+            }
+        }
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        List<String> ids = new ArrayList<>(batch.size());
+        List<RefreshToken> rows = new ArrayList<>(batch.size());
+        batch.forEach((userId, op) -> {
+            ids.add(String.valueOf(userId));
+            if (op != DELETED) {
+                rows.add(new RefreshToken(String.valueOf(userId), op.digest.toHex(), op.expiresAt));
+            }
+        });
+
+        // 2. 삭제 일괄 → 저장 일괄 (행 단위 SELECT/merge 없음)
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                refreshTokenRepository.deleteAllByIdInBatch(ids);
+                refreshTokenRepository.saveAll(rows);
+            });
+            log.debug("Refresh token batch flushed: {} deleted/replaced, {} saved", ids.size(), rows.size());
+            return true;
+        } catch (RuntimeException e) {
+            // 그 사이 더 최신 변경이 들어온 사용자는 덮어쓰지 않는다.
+            batch.forEach(pending::putIfAbsent);
+            log.warn("Refresh token batch flush failed ({} entries): {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    // 테이블에서 읽어 메모리를 맞춘다. (없거나 만료됐으면 메모리의 예전 값도 제거)
+    private TokenDigest load(Long userId) {
+        Optional<RefreshToken> row = refreshTokenRepository.findById(String.valueOf(userId));
+        if (pending.containsKey(userId)) {
+            // 읽는 사이 이 인스턴스에서 저장/삭제됨 → 그 값 우선
+            TokenInfo local = hot.get(userId);
+            return local == null ? null : local.digest;
+        }
+        if (row.isEmpty() || row.get().getExpiry() <= System.currentTimeMillis()) {
+            TokenInfo stale = hot.remove(userId);
+            if (stale != null) {
+                stale.registration.cancel();
+            }
+            return null;
+        }
+        TokenInfo info = new TokenInfo(TokenDigest.fromHex(row.get().getToken()), row.get().getExpiry());
+        cache(userId, info);
+        return info.digest;
+    }
+
+    private void cache(Long userId, TokenInfo info) {
+        info.registration = expiryWheel.schedule(info.expiresAt, () -> expire(userId, info));
+        TokenInfo previous = hot.put(userId, info);
+        if (previous != null) {
+            previous.registration.cancel();
+        }
+    }
+
+    // 메모리에서 제거하고, 같은 토큰이 아직 DB에 남아 있을 수 있으므로 삭제를 예약
+    private void expire(Long userId, TokenInfo info) {
+        if (hot.remove(userId, info)) {
+            info.registration.cancel();
+            pending.compute(userId, (id, op) -> op == null || op == info ? DELETED : op);
+        }
+    }
+}
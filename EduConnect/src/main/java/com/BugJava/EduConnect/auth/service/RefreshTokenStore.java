@@ -1,10 +1,22 @@
 package com.BugJava.EduConnect.auth.service;
 
+import com.BugJava.EduConnect.common.util.TokenDigest;
+
 /**
+ * 사용자별 현재 refresh token 저장소
+ * - 토큰 원문은 보관하지 않고 digest(TokenDigest)만 저장/비교한다.
  * @author rua
  */
 public interface RefreshTokenStore {
     void save(Long userId, String refreshToken, long expiresAt);
-    String get(Long userId);
+
+    /** 현재 토큰의 digest (없거나 만료됐으면 null) */
+    TokenDigest get(Long userId);
+
+    /** 원본 저장소에서 다시 읽은 digest - 다른 인스턴스가 교체했을 수 있는 경우 (기본: get과 같음) */
+    default TokenDigest reload(Long userId) {
+        return get(userId);
+    }
+
     void delete(Long userId);
 }
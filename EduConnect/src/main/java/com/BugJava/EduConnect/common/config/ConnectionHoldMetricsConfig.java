@@ -0,0 +1,43 @@
+package com.BugJava.EduConnect.common.config;
+
+import com.BugJava.EduConnect.common.filter.ConnectionHoldMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 커넥션 점유 시간 측정 등록
+ * - DataSource를 ConnectionHoldTrackingDataSource로 감싸고, 가장 바깥 필터에서 요청 단위로 집계
+ * @author rua
+ */
+@Configuration
+public class ConnectionHoldMetricsConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static
+    @Bean
+    public static BeanPostProcessor connectionHoldDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTrackingDataSource)) {
+                    return new ConnectionHoldTrackingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConnectionHoldMetricsFilter> connectionHoldMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConnectionHoldMetricsFilter> registration =
+                new FilterRegistrationBean<>(new ConnectionHoldMetricsFilter(meterRegistry));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
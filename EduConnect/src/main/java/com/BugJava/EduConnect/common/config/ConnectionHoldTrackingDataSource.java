@@ -0,0 +1,55 @@
+package com.BugJava.EduConnect.common.config;
+
+import com.BugJava.EduConnect.common.util.ConnectionHoldTracker;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 커넥션 획득 ~ close()(풀 반납) 시간을 ConnectionHoldTracker에 기록하는 DataSource
+ * - 요청 스레드(추적 중)에서만 커넥션을 프록시로 감싼다. 스케줄러/기동 작업 등은 원본 그대로
+ * - unwrap()은 DelegatingDataSource가 대상(Hikari)으로 위임
+ * @author rua
+ */
+public class ConnectionHoldTrackingDataSource extends DelegatingDataSource {
+
+    public ConnectionHoldTrackingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private static Connection track(Connection connection) {
+        if (!ConnectionHoldTracker.isActive()) {
+            return connection;
+        }
+        long acquiredAt = System.nanoTime();
+        boolean[] closed = {false};
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionHoldTrackingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && !closed[0]) {
+                        closed[0] = true;
+                        ConnectionHoldTracker.released(acquiredAt);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
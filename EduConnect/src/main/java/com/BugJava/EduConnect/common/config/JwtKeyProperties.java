@@ -0,0 +1,36 @@
+package com.BugJava.EduConnect.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 교체 설정 (jwt.rotation.*)
+ * - active-kid: 새 토큰 서명에 쓸 키
+ * - keys.&lt;kid&gt;.secret / retire-at: 검증용으로 유지할 키와 폐기 시각
+ * - kid "default"의 secret을 비워두면 기존 jwt.secret-key 를 사용한다.
+ * @author rua
+ */
+@Component
+@ConfigurationProperties(prefix = "jwt.rotation")
+@Getter
+@Setter
+public class JwtKeyProperties {
+
+    public static final String DEFAULT_KID = "default";
+
+    private String activeKid = DEFAULT_KID;
+    private Map<String, Key> keys = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Key {
+        private String secret;
+        private Instant retireAt; // 이 시각 이후로는 이 키로 서명된 토큰을 받지 않는다. (null이면 무기한)
+    }
+}
@@ -45,8 +45,12 @@ public class QnASecurityConfig {
                         // QnA 권한 설정 
                         .requestMatchers(HttpMethod.GET, "/api/qna/questions").authenticated() // 목록 조회: 로그인 필수
                         .requestMatchers(HttpMethod.POST, "/api/qna/questions/search").authenticated() // 검색: 로그인 필수
+                        .requestMatchers(HttpMethod.POST, "/api/qna/questions/search/scroll").authenticated() // 검색(커서): 로그인 필수
+                        .requestMatchers(HttpMethod.POST, "/api/qna/questions/search/slice").authenticated() // 검색(Slice): 로그인 필수
                         .requestMatchers(HttpMethod.GET, "/api/qna/questions/*").authenticated() // 상세 조회: 로그인 필수
+                        .requestMatchers(HttpMethod.GET, "/api/qna/questions/*/thread").authenticated() // 스레드(질문+답변+댓글): 로그인 필수
                         .requestMatchers(HttpMethod.POST, "/api/qna/questions").authenticated() // 생성: 로그인 필수
+                        .requestMatchers(HttpMethod.POST, "/api/qna/questions/bulk").authenticated() // 일괄 등록: 로그인 필수 (강사 여부는 서비스에서)
                         .requestMatchers(HttpMethod.PUT, "/api/qna/questions/*").authenticated() // 수정: 로그인 필수
                         .requestMatchers(HttpMethod.DELETE, "/api/qna/questions/*").authenticated() // 삭제: 로그인 필수
                         
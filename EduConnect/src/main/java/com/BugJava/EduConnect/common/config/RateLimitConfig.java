@@ -0,0 +1,43 @@
+package com.BugJava.EduConnect.common.config;
+
+import com.BugJava.EduConnect.common.filter.AuthRateLimitFilter;
+import com.BugJava.EduConnect.common.service.TokenBucketRateLimiter;
+import com.BugJava.EduConnect.common.service.TokenBucketRateLimiter.Limit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * 인증 API 처리율 제한 필터 등록
+ * - Security 필터 체인보다 앞 순서로 등록 → 차단된 요청은 JWT 파싱/인증 처리 비용도 들지 않는다.
+ * @author rua
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<AuthRateLimitFilter> authRateLimitFilter(
+            TokenBucketRateLimiter rateLimiter,
+            ObjectMapper objectMapper,
+            @Value("${rate-limit.auth.ip.capacity:300}") long ipCapacity,
+            @Value("${rate-limit.auth.ip.refill-period-millis:60000}") long ipRefillPeriodMillis,
+            @Value("${rate-limit.auth.email.capacity:5}") long emailCapacity,
+            @Value("${rate-limit.auth.email.refill-period-millis:60000}") long emailRefillPeriodMillis,
+            @Value("${rate-limit.trusted-proxies:}") Set<String> trustedProxies,
+            @Value("${rate-limit.auth.max-body-bytes:4096}") int maxBodyBytes) {
+        AuthRateLimitFilter filter = new AuthRateLimitFilter(rateLimiter, objectMapper,
+                new Limit("auth-ip", ipCapacity, ipRefillPeriodMillis),
+                new Limit("auth-email", emailCapacity, emailRefillPeriodMillis),
+                trustedProxies, maxBodyBytes);
+
+        FilterRegistrationBean<AuthRateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/auth/login", "/auth/register", "/auth/refresh");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+}
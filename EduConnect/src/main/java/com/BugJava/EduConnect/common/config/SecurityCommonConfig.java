@@ -3,6 +3,7 @@ package com.BugJava.EduConnect.common.config;
 import com.BugJava.EduConnect.common.filter.JwtAuthenticationFilter;
 import com.BugJava.EduConnect.common.service.JwtTokenProvider;
 import com.BugJava.EduConnect.common.service.TokenBlacklistService;
+import com.BugJava.EduConnect.common.service.UserRevocationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,9 +14,10 @@ public class SecurityCommonConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
+    private final UserRevocationService userRevocationService;
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, tokenBlacklistService);
+        return new JwtAuthenticationFilter(jwtTokenProvider, tokenBlacklistService, userRevocationService);
     }
 }
@@ -4,6 +4,7 @@ import com.BugJava.EduConnect.common.filter.JwtAuthenticationFilter;
 import com.BugJava.EduConnect.common.handler.CustomAccessDeniedHandler;
 import com.BugJava.EduConnect.common.handler.CustomAuthenticationEntryPoint;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -28,9 +29,10 @@ public class SecurityConfig {
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final CorsConfigurationSource corsConfigurationSource;
 
+    // cost factor는 BcryptCostFactorBenchmark 결과로 조정 (기본 10)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
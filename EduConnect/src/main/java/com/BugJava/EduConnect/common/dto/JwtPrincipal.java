@@ -0,0 +1,16 @@
+package com.BugJava.EduConnect.common.dto;
+
+import com.BugJava.EduConnect.auth.enums.Role;
+
+/**
+ * 서명 검증이 끝난 JWT에서 꺼낸 인증 정보 (불변)
+ * - 한 번의 파싱으로 필터/서비스가 필요한 값을 모두 담아 전달한다.
+ * @param userId    subject (사용자 PK)
+ * @param role      role 클레임
+ * @param expiresAt exp 클레임 (epoch ms)
+ * @param issuedAt  iat 클레임 (epoch 초, 사용자 단위 폐기 판정용)
+ * @param jti       토큰 고유 ID
+ * @author rua
+ */
+public record JwtPrincipal(Long userId, Role role, long expiresAt, long issuedAt, String jti) {
+}
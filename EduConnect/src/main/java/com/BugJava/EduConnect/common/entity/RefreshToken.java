@@ -3,24 +3,55 @@ package com.BugJava.EduConnect.common.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 /**
  * @author rua
  */
 @Entity
 @Getter
-@AllArgsConstructor
 @NoArgsConstructor
-public class RefreshToken {
+public class RefreshToken implements Persistable<String> {
     @Id
     private String username; // 사용자 계정명(또는 userId, PK)
 
-    @Column(nullable = false)
+    // 토큰 원문이 아닌 TokenDigest.toHex() (db.migration.V5__hash_refresh_tokens로 기존 행 변환)
+    @Column(nullable = false, length = 1000)
     private String token;
 
     @Column(nullable = false)
     private Long expiry; // 만료시각(타임스탬프, ms)
+
+    // 저장 전 같은 키의 행을 먼저 일괄 삭제하므로 항상 INSERT로 처리 (merge 시 SELECT 생략)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public RefreshToken(String username, String token, Long expiry) {
+        this.username = username;
+        this.token = token;
+        this.expiry = expiry;
+    }
+
+    @Override
+    public String getId() {
+        return username;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
@@ -0,0 +1,222 @@
+package com.BugJava.EduConnect.common.filter;
+
+import com.BugJava.EduConnect.common.dto.ApiResponse;
+import com.BugJava.EduConnect.common.service.TokenBucketRateLimiter;
+import com.BugJava.EduConnect.common.service.TokenBucketRateLimiter.Decision;
+import com.BugJava.EduConnect.common.service.TokenBucketRateLimiter.Limit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * /auth/login, /auth/register, /auth/refresh 처리율 제한 필터 (Spring Security 체인보다 먼저 실행)
+ * - 클라이언트 IP별 + 요청 본문의 이메일별 token bucket
+ * - 클라이언트 IP: 신뢰하는 프록시(rate-limit.trusted-proxies)를 거친 요청만 X-Forwarded-For에서 꺼낸다. (위조 방지)
+ * - 본문은 maxBodyBytes까지만 메모리에 올리고, 넘으면 413 (제한 판정 전에 큰 본문으로 메모리를 쓰게 하지 않도록)
+ * - 응답 헤더: RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset, 초과 시 429 + Retry-After
+ * @author rua
+ */
+@Slf4j
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final Limit ipLimit;
+    private final Limit emailLimit;
+    private final Set<String> trustedProxies;
+    private final int maxBodyBytes;
+
+    public AuthRateLimitFilter(TokenBucketRateLimiter rateLimiter, ObjectMapper objectMapper,
+                               Limit ipLimit, Limit emailLimit,
+                               Set<String> trustedProxies, int maxBodyBytes) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.ipLimit = ipLimit;
+        this.emailLimit = emailLimit;
+        this.trustedProxies = trustedProxies;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equalsIgnoreCase(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        // 1. IP 기준 (본문을 읽기 전에 먼저 거른다)
+        String clientIp = clientIp(request);
+        Decision decision = rateLimiter.tryConsume(ipLimit, clientIp);
+        if (!decision.allowed()) {
+            reject(request, response, clientIp, decision);
+            return;
+        }
+
+        // 2. 이메일 기준 (본문은 크기 상한까지만 읽어 컨트롤러에서 다시 읽을 수 있도록 보관)
+        byte[] body = readBody(request);
+        if (body == null) {
+            writeError(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                    "요청 본문이 너무 큽니다.", "PAYLOAD_TOO_LARGE");
+            return;
+        }
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String email = extractEmail(body);
+        if (email != null) {
+            Decision emailDecision = rateLimiter.tryConsume(emailLimit, email);
+            if (!emailDecision.allowed()) {
+                reject(request, response, clientIp, emailDecision);
+                return;
+            }
+            if (emailDecision.remaining() < decision.remaining()) {
+                decision = emailDecision; // 더 빡빡한 쪽을 헤더로 알려준다.
+            }
+        }
+
+        writeRateLimitHeaders(response, decision);
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    /**
+     * 직접 연결한 주소가 신뢰 프록시일 때만 X-Forwarded-For를 오른쪽(가장 가까운 홉)부터 보며
+     * 신뢰 프록시가 아닌 첫 주소를 클라이언트로 본다. 그 밖에는 연결 주소 그대로.
+     */
+    private String clientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
+
+    // 상한을 넘으면 null (Content-Length를 먼저 보고, 없거나 거짓이어도 상한 + 1바이트까지만 읽는다)
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        return body.length > maxBodyBytes ? null : body;
+    }
+
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            return null; // 잘못된 본문은 컨트롤러에서 400 처리
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        String clientIp, Decision decision) throws IOException {
+        log.warn("Rate limit exceeded: {} {}", request.getRequestURI(), clientIp);
+        writeRateLimitHeaders(response, decision);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        writeError(response, 429, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", "RATE_LIMITED");
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message, String code) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResponse.error(message, code)));
+    }
+
+    private void writeRateLimitHeaders(HttpServletResponse response, Decision decision) {
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+    }
+
+    // 읽어 둔 본문을 보관하고, 이후 getInputStream()/getReader()는 보관본을 돌려준다.
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 바로 읽기 가능 → 끝까지 읽으면 완료 통지
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
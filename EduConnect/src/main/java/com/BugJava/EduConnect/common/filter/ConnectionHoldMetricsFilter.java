@@ -0,0 +1,54 @@
+package com.BugJava.EduConnect.common.filter;
+
+import com.BugJava.EduConnect.common.util.ConnectionHoldTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 JDBC 커넥션 점유 시간 메트릭
+ * - http.server.requests.connection.hold (Timer, method/uri 태그): 요청 하나가 커넥션을 잡고 있던 시간의 합
+ * - 커넥션을 쓰지 않은 요청(캐시 hit 등)은 0으로 기록 → 같은 풀 크기로 처리 가능한 동시 요청 수 비교에 사용
+ * @author rua
+ */
+public class ConnectionHoldMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "http.server.requests.connection.hold";
+
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionHoldMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ConnectionHoldTracker.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ConnectionHoldTracker.Hold hold = ConnectionHoldTracker.end();
+            Timer.builder(METRIC_NAME)
+                    .description("JDBC connection hold time per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uriTag(request))
+                    .register(meterRegistry)
+                    .record(hold.nanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 경로 변수는 패턴 그대로 (/api/qna/questions/{id}) → 태그 개수 제한
+    private static String uriTag(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
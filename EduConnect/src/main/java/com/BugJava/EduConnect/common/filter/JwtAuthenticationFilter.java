@@ -1,20 +1,20 @@
 package com.BugJava.EduConnect.common.filter;
+import com.BugJava.EduConnect.common.dto.JwtPrincipal;
+import com.BugJava.EduConnect.common.security.JwtAuthenticationToken;
 import com.BugJava.EduConnect.common.service.JwtTokenProvider;
 import com.BugJava.EduConnect.common.service.TokenBlacklistService;
+import com.BugJava.EduConnect.common.service.UserRevocationService;
+import com.BugJava.EduConnect.common.util.TokenDigest;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * @author rua
@@ -23,11 +23,14 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
+    private final UserRevocationService userRevocationService;
 
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, TokenBlacklistService tokenBlacklistService) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, TokenBlacklistService tokenBlacklistService,
+                                   UserRevocationService userRevocationService) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.tokenBlacklistService = tokenBlacklistService;
+        this.userRevocationService = userRevocationService;
     }
 
     // 1. 요청 헤더에서 JWT 토큰 추출
@@ -46,25 +49,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)&& !tokenBlacklistService.isBlacklisted(token)) {
-            // 2. 토큰에서 사용자 정보 추출
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
-            String role = jwtTokenProvider.getRoleFromToken(token);
-
-            // 3. 인증 객체 생성 (실무에서는 유저 정보 추가 조회도 가능)
-            // 현재는 유저당 하나의 권한만 요구 하지만 나중에는 두 개 이상이 될 수 있다.
-            List<SimpleGrantedAuthority> authorities =
-                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
-
-            // 마지막 권한 요소는 List<GrantedAuthority>타입만을 요구한다.
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userId, null, authorities);
-
-            // 4. SecurityContext에 인증 정보 저장
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token != null) {
+            // 2. 서명 검증 + 사용자 정보 추출을 한 번에 (토큰당 파싱 1회)
+            //    digest(SHA-256)도 한 번만 계산해 검증 캐시 조회와 블랙리스트 조회에 같이 사용
+            TokenDigest digest = TokenDigest.of(token);
+            jwtTokenProvider.verify(token, digest)
+                    .filter(principal -> !userRevocationService.isRevoked(principal)) // 사용자 단위 폐기 (iat < notBefore)
+                    .filter(principal -> !isRevoked(digest))
+                    .ifPresent(this::authenticate);
         }
 
         // 5. 다음 필터로 요청 전달
         filterChain.doFilter(request, response);
     }
+
+    // 블랙리스트는 캐시 히트 여부와 상관없이 매 요청 확인하고, 걸리면 검증 캐시에서도 제거
+    private boolean isRevoked(TokenDigest digest) {
+        if (tokenBlacklistService.isBlacklisted(digest)) {
+            jwtTokenProvider.evict(digest);
+            return true;
+        }
+        return false;
+    }
+
+    private void authenticate(JwtPrincipal principal) {
+        // 3. 인증 객체 생성 - 권한 목록은 Role별 공유 인스턴스를 쓰므로 요청마다 새로 만들지 않는다.
+        JwtAuthenticationToken authentication = new JwtAuthenticationToken(principal.userId(), principal.role());
+
+        // 4. SecurityContext에 인증 정보 저장
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
 }
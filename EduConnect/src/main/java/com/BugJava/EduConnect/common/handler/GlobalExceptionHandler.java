@@ -3,6 +3,7 @@ package com.BugJava.EduConnect.common.handler;
 import com.BugJava.EduConnect.auth.exception.*;
 import com.BugJava.EduConnect.common.dto.ApiResponse;
 import com.BugJava.EduConnect.qnaboard.exception.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -47,6 +48,15 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), "USER_NOT_FOUND"));
     }
 
+    //비밀번호 해싱 대기열 초과 (로그인/회원가입 폭주)
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ApiResponse<?>> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE) // 503
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage(), "AUTH_BUSY"));
+    }
+
     //엑세스 토큰 인증 오류
     @ExceptionHandler(InvalidAccessTokenException.class)
     public ResponseEntity<ApiResponse<?>> handleInvalidAccessToken(InvalidAccessTokenException ex) {
@@ -89,6 +99,20 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), "COMMENT_NOT_FOUND"));
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiResponse<?>> handleInvalidCursor(InvalidCursorException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(ex.getMessage(), "INVALID_CURSOR"));
+    }
+
+    @ExceptionHandler(InvalidBulkImportException.class)
+    public ResponseEntity<ApiResponse<?>> handleInvalidBulkImport(InvalidBulkImportException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(ex.getMessage(), "INVALID_BULK_IMPORT"));
+    }
+
     @ExceptionHandler(ForbiddenException.class)
     public ResponseEntity<ApiResponse<?>> handleForbidden(ForbiddenException ex) {
         return ResponseEntity.status(403).body(ApiResponse.error(ex.getMessage(),"INVALID_ACCESS"));
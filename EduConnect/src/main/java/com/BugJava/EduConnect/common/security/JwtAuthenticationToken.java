@@ -0,0 +1,93 @@
+package com.BugJava.EduConnect.common.security;
+
+import com.BugJava.EduConnect.auth.enums.Role;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * JWT 인증 결과 (SecurityContext 저장용)
+ * - principal: userId(Long) → 기존 @AuthenticationPrincipal Long 사용처 그대로 동작
+ * - 권한 목록은 Role이 가진 공유 리스트를 그대로 반환하고, 역할 검사는 roleMask() 비트 연산으로 끝낸다.
+ * @author rua
+ */
+public final class JwtAuthenticationToken implements Authentication {
+
+    private final Long userId;
+    private final Role role;
+    private boolean authenticated = true;
+
+    public JwtAuthenticationToken(Long userId, Role role) {
+        this.userId = Objects.requireNonNull(userId);
+        this.role = Objects.requireNonNull(role);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public int roleMask() {
+        return role.mask();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role.authorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null; // 토큰 원문은 보관하지 않는다.
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return userId;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (isAuthenticated) {
+            throw new IllegalArgumentException("JWT 인증 토큰은 생성 시점에만 인증 상태가 될 수 있습니다.");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof JwtAuthenticationToken that)) return false;
+        return userId.equals(that.userId) && role == that.role && authenticated == that.authenticated;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, role);
+    }
+
+    @Override
+    public String toString() {
+        return "JwtAuthenticationToken[userId=" + userId + ", role=" + role + "]";
+    }
+}
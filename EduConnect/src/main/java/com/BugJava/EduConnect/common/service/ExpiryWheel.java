@@ -0,0 +1,166 @@
+package com.BugJava.EduConnect.common.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인메모리 저장소 공용 만료 타이머 (tick 단위 버킷 방식의 timing wheel)
+ * - 항목은 만료 시각이 속한 tick 버킷에 등록되고, 매 tick마다 지난 버킷만 떼어내 콜백을 실행한다.
+ *   → 만료 처리 비용은 전체 항목 수가 아니라 "이번에 만료된 항목 수"에 비례한다.
+ * - 등록/취소 모두 O(log 버킷 수): 취소하면 버킷에서도 바로 빠진다. (갱신이 잦고 TTL이 긴 항목이 만료 시각까지 메모리에 남지 않도록)
+ * - 메트릭: expiry.wheel.live.entries(대기 중 항목), expiry.wheel.buckets(대기 중 tick 버킷 수),
+ *           expiry.wheel.tick.evictions(직전 tick 만료 수),
+ *           expiry.wheel.evictions(누적 만료 수)
+ * @author rua
+ */
+@Component
+@Slf4j
+public class ExpiryWheel {
+
+    private final long tickMillis;
+
+    // tick 번호 → 해당 tick에 만료되는 항목들 (등록 빈도가 낮아 단일 락으로 충분)
+    private final NavigableMap<Long, Set<Registration>> buckets = new TreeMap<>();
+    private final Object lock = new Object();
+
+    private final AtomicLong liveEntries = new AtomicLong();
+    private final AtomicLong lastTickEvictions = new AtomicLong();
+    private final Counter evictions;
+
+    public ExpiryWheel(@Value("${expiry-wheel.tick-millis:1000}") long tickMillis, MeterRegistry meterRegistry) {
+        this.tickMillis = tickMillis;
+        Gauge.builder("expiry.wheel.live.entries", liveEntries, AtomicLong::get)
+                .description("만료 대기 중인 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("expiry.wheel.buckets", this, ExpiryWheel::bucketCount)
+                .description("만료 대기 중인 tick 버킷 수")
+                .register(meterRegistry);
+        Gauge.builder("expiry.wheel.tick.evictions", lastTickEvictions, AtomicLong::get)
+                .description("직전 tick에서 만료 처리된 항목 수")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("expiry.wheel.evictions")
+                .description("누적 만료 처리 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료 시각(epoch ms)에 실행할 콜백 등록
+     * - 콜백은 타이머 스레드에서 실행되므로 짧고 예외 없이 끝나야 한다. (예: map.remove(key, value))
+     */
+    public Registration schedule(long expiresAtMillis, Runnable onExpire) {
+        // 만료 시각이 속한 tick의 "끝"에 실행 → 만료 전에 실행되는 일은 없다.
+        long tick = Math.floorDiv(expiresAtMillis + tickMillis - 1, tickMillis);
+        Registration registration = new Registration(tick, onExpire);
+        synchronized (lock) {
+            buckets.computeIfAbsent(tick, t -> new HashSet<>()).add(registration);
+        }
+        liveEntries.incrementAndGet();
+        return registration;
+    }
+
+    @Scheduled(fixedDelayString = "${expiry-wheel.tick-millis:1000}")
+    public void advance() {
+        long currentTick = Math.floorDiv(System.currentTimeMillis(), tickMillis);
+
+        // 1. 지난 버킷만 떼어낸다. (락 안에서는 참조만 옮기고 콜백은 락 밖에서 실행)
+        List<Set<Registration>> expired = new ArrayList<>();
+        synchronized (lock) {
+            Iterator<Map.Entry<Long, Set<Registration>>> iterator =
+                    buckets.headMap(currentTick, true).entrySet().iterator();
+            while (iterator.hasNext()) {
+                expired.add(iterator.next().getValue());
+                iterator.remove();
+            }
+        }
+
+        // 2. 만료 콜백 실행
+        long evictedCount = 0;
+        for (Set<Registration> bucket : expired) {
+            for (Registration registration : bucket) {
+                if (registration.expire()) {
+                    evictedCount++;
+                }
+            }
+        }
+
+        lastTickEvictions.set(evictedCount);
+        if (evictedCount > 0) {
+            liveEntries.addAndGet(-evictedCount);
+            evictions.increment(evictedCount);
+            log.debug("Expired entries evicted: {}", evictedCount);
+        }
+    }
+
+    public long liveEntries() {
+        return liveEntries.get();
+    }
+
+    private int bucketCount() {
+        synchronized (lock) {
+            return buckets.size();
+        }
+    }
+
+    // 취소된 등록을 버킷에서 제거 (이미 advance가 떼어낸 버킷이면 아무 일도 없음)
+    private void unlink(Registration registration) {
+        synchronized (lock) {
+            Set<Registration> bucket = buckets.get(registration.tick);
+            if (bucket != null && bucket.remove(registration) && bucket.isEmpty()) {
+                buckets.remove(registration.tick);
+            }
+        }
+    }
+
+    /** 등록 핸들 - 값이 갱신/삭제되면 cancel()로 이전 등록을 무효화한다. */
+    public final class Registration {
+        private final long tick;
+        private final Runnable onExpire;
+        private boolean done; // this 모니터 안에서만 읽고 쓴다. (항목마다 별도 필드를 두지 않기 위해)
+
+        private Registration(long tick, Runnable onExpire) {
+            this.tick = tick;
+            this.onExpire = onExpire;
+        }
+
+        public void cancel() {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            liveEntries.decrementAndGet();
+            unlink(this);
+        }
+
+        private boolean expire() {
+            synchronized (this) {
+                if (done) {
+                    return false;
+                }
+                done = true;
+            }
+            try {
+                onExpire.run();
+            } catch (RuntimeException e) {
+                log.warn("만료 콜백 실행 실패: {}", e.getMessage());
+            }
+            return true;
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.BugJava.EduConnect.common.service;
 
+import com.BugJava.EduConnect.common.util.ConcurrentBloomFilter;
+import com.BugJava.EduConnect.common.util.TokenDigest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.Iterator;
+import java.time.ZoneId;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author rua
@@ -17,38 +21,101 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class InMemoryTokenBlacklistService implements TokenBlacklistService {
     // 추후 Redis로 교체 가능
-    private final Set<String> blacklist = ConcurrentHashMap.newKeySet();
-    private final Map<String, LocalDateTime> expiryMap = new ConcurrentHashMap<>();
+    // 토큰 원문 대신 고정 크기 digest를 키로, 만료 시각(epoch ms)을 값으로 하나의 Map에만 저장
+    private final Map<TokenDigest, Long> expiryByDigest = new ConcurrentHashMap<>();
+
+    // "블랙리스트에 없음"을 Map 조회 없이 판정하기 위한 앞단 필터 (정리 후 재구성하므로 교체 가능하게 보관)
+    private final AtomicReference<ConcurrentBloomFilter> bloomFilter;
+    private final long expectedTokens;
+    private final double falsePositiveRate;
+
+    // 만료 처리는 ExpiryWheel이 항목별로 수행 (전체 Map 순회 없음)
+    private final ExpiryWheel expiryWheel;
+    private final AtomicLong evictedSinceRebuild = new AtomicLong();
+    // 재구성 세대 (seqlock): 홀수면 재구성 중 → 읽기는 필터를 믿지 않고 Map을 직접 본다.
+    private final AtomicLong rebuildSequence = new AtomicLong();
+
+    public InMemoryTokenBlacklistService(@Value("${jwt.blacklist.expected-tokens:100000}") long expectedTokens,
+                                         @Value("${jwt.blacklist.false-positive-rate:0.01}") double falsePositiveRate,
+                                         ExpiryWheel expiryWheel) {
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.expiryWheel = expiryWheel;
+        this.bloomFilter = new AtomicReference<>(new ConcurrentBloomFilter(expectedTokens, falsePositiveRate));
+    }
 
     @Override
     public void addToBlacklist(String token, LocalDateTime expiry) {
-        blacklist.add(token);
-        expiryMap.put(token, expiry);
-        log.info("Token added to blacklist: {}", token);
+        TokenDigest digest = TokenDigest.of(token);
+        long expiresAt = expiry.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // Map 먼저, Bloom filter는 나중에 → 필터가 true를 주면 Map에는 반드시 있다.
+        expiryByDigest.put(digest, expiresAt);
+        addToBloomFilter(digest);
+        // 같은 토큰이 다른 만료시각으로 다시 등록된 경우 이전 콜백은 조건부 remove라 아무 일도 하지 않는다.
+        expiryWheel.schedule(expiresAt, () -> {
+            if (expiryByDigest.remove(digest, expiresAt)) {
+                evictedSinceRebuild.incrementAndGet();
+            }
+        });
+        log.info("Token added to blacklist: {}", Long.toHexString(digest.high()));
     }
 
     @Override
-    public boolean isBlacklisted(String token) {
-        // 만료된 토큰은 자동 정리됨(아래 @Scheduled 참고)
-        return blacklist.contains(token);
+    public boolean isBlacklisted(TokenDigest digest) {
+        // 필터를 읽는 동안 재구성이 시작/진행되지 않았을 때만 필터의 "없음"을 믿는다.
+        long sequence = rebuildSequence.get();
+        if ((sequence & 1) == 0
+                && !bloomFilter.get().mightContain(digest)
+                && rebuildSequence.get() == sequence) {
+            return false; // 대부분의 요청은 여기서 끝남
+        }
+        // 만료된 토큰은 ExpiryWheel이 자동 정리함
+        return expiryByDigest.containsKey(digest);
     }
 
+    /**
+     * 만료 항목 자체는 ExpiryWheel이 제거하므로, 여기서는 Bloom filter에 남은 흔적만 정리한다.
+     * - 제거된 항목 수가 살아있는 항목 수 이상 쌓였을 때만 재구성 → 재구성 비용은 만료 건당 O(1)로 상각
+     */
     @Override
-    @Scheduled(fixedDelay = 60_000) // 1분마다 만료된 토큰 자동 정리 (운영환경엔 더 짧거나 길게 조정 가능)
+    @Scheduled(fixedDelay = 60_000) // 1분마다 확인 (운영환경엔 더 짧거나 길게 조정 가능)
     public void cleanupExpiredTokens() {
-        LocalDateTime now = LocalDateTime.now();
-        Iterator<Map.Entry<String, LocalDateTime>> iterator = expiryMap.entrySet().iterator();
-        int removedCount = 0;
-        while (iterator.hasNext()) {
-            Map.Entry<String, LocalDateTime> entry = iterator.next();
-            if (entry.getValue().isBefore(now)) {
-                blacklist.remove(entry.getKey());
-                iterator.remove();
-                removedCount++;
-            }
+        long evicted = evictedSinceRebuild.get();
+        if (evicted == 0 || evicted < expiryByDigest.size()) {
+            return;
         }
-        if (removedCount > 0) {
-            log.info("Expired tokens cleaned up: {}", removedCount);
+        evictedSinceRebuild.addAndGet(-evicted);
+        rebuildBloomFilter();
+        log.info("Blacklist bloom filter rebuilt after {} expired tokens", evicted);
+    }
+
+    /**
+     * Bloom filter는 삭제가 안 되므로 남은 항목으로 새로 만들어 교체
+     * - 새 필터를 다 채운 뒤에 교체하고, 채우는 동안 이전 필터에만 들어간 항목은 교체 후 한 번 더 넣는다.
+     * - 시작부터 두 번째 채우기가 끝날 때까지는 rebuildSequence가 홀수 → isBlacklisted가 Map을 직접 확인
+     */
+    private void rebuildBloomFilter() {
+        rebuildSequence.incrementAndGet();
+        try {
+            ConcurrentBloomFilter rebuilt = new ConcurrentBloomFilter(expectedTokens, falsePositiveRate);
+            expiryByDigest.keySet().forEach(rebuilt::put);
+            bloomFilter.set(rebuilt); // 교체 이후 추가되는 항목은 addToBloomFilter()가 새 필터에 넣는다.
+            expiryByDigest.keySet().forEach(rebuilt::put);
+        } finally {
+            rebuildSequence.incrementAndGet();
+        }
+    }
+
+    // 교체와 경쟁하더라도 누락(false negative)이 생기지 않도록 현재 필터가 바뀌었으면 다시 넣는다.
+    private void addToBloomFilter(TokenDigest digest) {
+        ConcurrentBloomFilter filter = bloomFilter.get();
+        while (true) {
+            filter.put(digest);
+            ConcurrentBloomFilter current = bloomFilter.get();
+            if (current == filter) {
+                return;
+            }
+            filter = current;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,142 @@
+package com.BugJava.EduConnect.common.service;
+
+import com.BugJava.EduConnect.common.config.JwtKeyProperties;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JWT 서명/검증 키 묶음 (kid 기반 키 교체)
+ * - 서명: active kid 하나, 검증: 폐기되지 않은 모든 kid
+ * - kid별 JwtParser를 미리 만들어 불변 Map으로 보관 → 검증 시 헤더의 kid로 파서만 고른다. (생성/재구성 없음)
+ * - kid 헤더가 없는 토큰(교체 도입 전 발급분)은 default 키로 검증
+ * - 폐기 시각이 지난 키는 주기적으로 빠지며, 그 키로 검증돼 캐시에 남은 항목만 함께 비운다.
+ *   → retire-at을 "새 키로 서명 시작 + refresh token 유효기간" 이후로 잡으면 사용자는 재발급 과정에서 자연스럽게 새 키로 옮겨간다.
+ * @author rua
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class JwtKeyRing {
+
+    private final JwtKeyProperties properties;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Value("${jwt.secret-key}")
+    private String defaultSecret;
+
+    private volatile KeySet keySet;
+
+    /** 교체 시점마다 통째로 바뀌는 불변 스냅샷 */
+    public record KeySet(String activeKid, SecretKey signingKey, Map<String, JwtParser> parsers) {
+    }
+
+    @PostConstruct
+    public void init() {
+        this.keySet = build(Instant.now());
+        log.info("JWT key ring loaded: active={}, verification={}", keySet.activeKid(), keySet.parsers().keySet());
+    }
+
+    public KeySet current() {
+        return keySet;
+    }
+
+    /** 토큰 헤더의 kid에 해당하는 검증 파서 (kid 없으면 default) */
+    public JwtParser parserFor(String token) {
+        String kid = kidOf(token);
+        JwtParser parser = keySet.parsers().get(kid);
+        if (parser == null) {
+            throw new UnsupportedJwtException("등록되지 않았거나 폐기된 서명 키입니다: " + kid);
+        }
+        return parser;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.rotation.check-interval-millis:60000}")
+    public void retireExpiredKeys() {
+        KeySet rebuilt = build(Instant.now());
+        if (rebuilt.parsers().keySet().equals(keySet.parsers().keySet())) {
+            return;
+        }
+        Set<String> retired = new HashSet<>(keySet.parsers().keySet());
+        retired.removeAll(rebuilt.parsers().keySet());
+        this.keySet = rebuilt;
+        // 폐기된 키로 검증된 토큰이 캐시 히트로 통과하지 않도록 (새 키 추가만으로는 비울 것 없음)
+        if (!retired.isEmpty()) {
+            verifiedTokenCache.invalidateKids(retired);
+        }
+        log.info("JWT verification keys updated: {} (retired: {})", rebuilt.parsers().keySet(), retired);
+    }
+
+    private KeySet build(Instant now) {
+        Map<String, JwtKeyProperties.Key> configured = new LinkedHashMap<>(properties.getKeys());
+        configured.computeIfAbsent(JwtKeyProperties.DEFAULT_KID, kid -> new JwtKeyProperties.Key());
+
+        String activeKid = properties.getActiveKid();
+        SecretKey signingKey = null;
+        Map<String, JwtParser> parsers = new LinkedHashMap<>();
+        for (Map.Entry<String, JwtKeyProperties.Key> entry : configured.entrySet()) {
+            String kid = entry.getKey();
+            JwtKeyProperties.Key key = entry.getValue();
+            String secret = key.getSecret() != null ? key.getSecret()
+                    : JwtKeyProperties.DEFAULT_KID.equals(kid) ? defaultSecret : null;
+            if (secret == null) {
+                throw new IllegalStateException("JWT 키 secret이 없습니다: " + kid);
+            }
+            boolean retired = key.getRetireAt() != null && !now.isBefore(key.getRetireAt());
+            if (kid.equals(activeKid)) {
+                if (retired) {
+                    throw new IllegalStateException("서명용 키가 이미 폐기 시각을 지났습니다: " + kid);
+                }
+                signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            }
+            if (!retired) {
+                parsers.put(kid, Jwts.parser()
+                        .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                        .build());
+            }
+        }
+        if (signingKey == null) {
+            throw new IllegalStateException("jwt.rotation.active-kid 에 해당하는 키가 없습니다: " + activeKid);
+        }
+        return new KeySet(activeKid, signingKey, Map.copyOf(parsers));
+    }
+
+    /** 토큰을 검증할 키의 kid (헤더에 kid가 없으면 default) */
+    public static String kidOf(String token) {
+        String kid = readKid(token);
+        return kid != null ? kid : JwtKeyProperties.DEFAULT_KID;
+    }
+
+    // 헤더(첫 번째 segment)만 디코딩해서 kid 값을 꺼낸다. (전체 JSON 파싱 없이)
+    static String readKid(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+        int name = header.indexOf("\"kid\"");
+        if (name < 0) {
+            return null;
+        }
+        int colon = header.indexOf(':', name + 5);
+        int start = colon < 0 ? -1 : header.indexOf('"', colon + 1);
+        int end = start < 0 ? -1 : header.indexOf('"', start + 1);
+        return end < 0 ? null : header.substring(start + 1, end);
+    }
+}
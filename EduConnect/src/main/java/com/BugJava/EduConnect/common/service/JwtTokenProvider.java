@@ -1,28 +1,31 @@
 package com.BugJava.EduConnect.common.service;
 
 import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.common.dto.JwtPrincipal;
+import com.BugJava.EduConnect.common.util.TokenDigest;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
+import io.jsonwebtoken.MalformedJwtException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * @author rua
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class JwtTokenProvider {
-    @Value("${jwt.secret-key}")
-    private String secretKey;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtKeyRing jwtKeyRing; // kid별 서명/검증 키 (키 교체 지원)
+    private final UserRevocationService userRevocationService; // 사용자 단위 폐기 epoch
 
     @Value("${jwt.access-token-validity}")
     private long accessTokenValidity;
@@ -30,42 +33,101 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidity;
 
-    private SecretKey jwtSecretKey; // 실제 암호화용 Key 객체
-
-    // 시크릿 키를 SecretKey 객체로 변환 (JJWT 0.12.x 필수)
-    @PostConstruct
-    public void init() {
-        this.jwtSecretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-    }
-
     // 1. AccessToken 생성 (신규 Builder API)
     public String createAccessToken(Long userId, Role role) {
         final Date now = new Date();
         final Date expiry = new Date(now.getTime() + accessTokenValidity);
+        final Date issuedAt = issuedAt(userId, now);
+        final JwtKeyRing.KeySet keys = jwtKeyRing.current();
 
         return Jwts.builder()
+                .header().keyId(keys.activeKid()).and() // 검증 시 kid로 키 선택
                 .subject(String.valueOf(userId))    // (구) setSubject() → (신) subject()
+                .id(UUID.randomUUID().toString())   // jti: 토큰 고유 ID
                 .claim("role", role)
-                .issuedAt(new Date())
+                .issuedAt(issuedAt)
                 .expiration(expiry)
-                .signWith(jwtSecretKey)                      // SignatureAlgorithm 생략, key로 감지
+                .signWith(keys.signingKey())                 // SignatureAlgorithm 생략, key로 감지
                 .compact();
     }
         // 2. RefreshToken 생성 (신규 Builder API)
         public String createRefreshToken(Long userId, Role role) {
             final Date now = new Date();
             final Date expiry = new Date(now.getTime() + refreshTokenValidity);
+            final Date issuedAt = issuedAt(userId, now);
+            final JwtKeyRing.KeySet keys = jwtKeyRing.current();
 
             return Jwts.builder()
+                    .header().keyId(keys.activeKid()).and()
                     .subject(String.valueOf(userId))
+                    .id(UUID.randomUUID().toString())
                     .claim("role", role)
-                    .issuedAt(now)
+                    .issuedAt(issuedAt)
                     .expiration(expiry)
-                    .signWith(jwtSecretKey)
+                    .signWith(keys.signingKey())
                     .compact();
         }
 
-    // 3. 토큰 유효성 검증 (신규 Parser API)
+    // 폐기 epoch 직후 발급되는 토큰이 폐기 대상으로 보이지 않도록 iat 보정
+    private Date issuedAt(Long userId, Date now) {
+        return new Date(userRevocationService.issuedAtFor(userId, now.getTime()) * 1000);
+    }
+
+    // 3. 토큰 검증 + 클레임 추출 (단일 패스)
+    /**
+     * 서명/exp 검증과 클레임 추출을 한 번의 parseSignedClaims()로 끝낸다.
+     * - 필터/AuthService는 이 메서드 하나만 호출하면 된다. (검증 → userId → role 순으로 3번 파싱하던 구조 대체)
+     * - 이미 검증한 토큰은 VerifiedTokenCache에서 바로 꺼낸다. (암호 연산 생략)
+     * - 유효하면 JwtPrincipal, 만료/서명 오류/필수 클레임 누락이면 Optional.empty()
+     */
+    public Optional<JwtPrincipal> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        return verify(token, TokenDigest.of(token));
+    }
+
+    /** digest를 이미 계산한 호출자(필터: 블랙리스트 조회에도 같은 digest 사용)용 */
+    public Optional<JwtPrincipal> verify(String token, TokenDigest digest) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        JwtPrincipal cached = verifiedTokenCache.get(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = extractAllClaims(token);
+            String subject = claims.getSubject();
+            String role = claims.get("role", String.class);
+            if (subject == null || role == null) {
+                throw new MalformedJwtException("필수 클레임(sub, role)이 없습니다.");
+            }
+            JwtPrincipal principal = new JwtPrincipal(
+                    Long.parseLong(subject),
+                    Role.valueOf(role),
+                    claims.getExpiration().getTime(),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() / 1000 : 0L,
+                    claims.getId());
+            verifiedTokenCache.put(digest, principal, JwtKeyRing.kidOf(token));
+            return Optional.of(principal);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("JWT 검증 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 검증 캐시에서 제거 (로그아웃/블랙리스트 등록 시)
+    public void evict(String token) {
+        evict(TokenDigest.of(token));
+    }
+
+    public void evict(TokenDigest digest) {
+        verifiedTokenCache.invalidate(digest);
+    }
+
     /**
      * JWT 토큰의 유효성을 검증한다.
      * - JJWT의 parseSignedClaims() 호출 시
@@ -74,25 +136,13 @@ public class JwtTokenProvider {
      * - 유효할 경우 true, 만료/오류시 false 반환
      */
     public boolean validateToken(String token) {
-
-        try {
-            Jwts.parser()
-                    .verifyWith(jwtSecretKey) // 키 세팅 (시그니처 검증)
-                    .build()
-                    .parseSignedClaims(token);  // [★] 이 한 줄에서 모든 표준 클레임, 시그니처 등 검증됨!
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("JWT 검증 실패: {}", e.getMessage());
-            return false;
-        }
+        return verify(token).isPresent();
     }
 
-    // 4. Claims 추출 - 공통 파서
+    // 4. Claims 추출 - 헤더 kid에 맞는 미리 만들어 둔 파서 사용
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(jwtSecretKey)
-                .build()
-                .parseSignedClaims(token)
+        return jwtKeyRing.parserFor(token)
+                .parseSignedClaims(token)  // [★] 이 한 줄에서 모든 표준 클레임, 시그니처 등 검증됨!
                 .getPayload();
     }
 
@@ -110,4 +160,4 @@ public class JwtTokenProvider {
     public Date getExpiryFromToken(String token) {
         return extractAllClaims(token).getExpiration();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.BugJava.EduConnect.common.service;
 
+import com.BugJava.EduConnect.common.util.TokenDigest;
+
 import java.time.LocalDateTime;
 
 /**
@@ -7,6 +9,11 @@ import java.time.LocalDateTime;
  */
 public interface TokenBlacklistService {
     void addToBlacklist(String token, LocalDateTime expiry);
-    boolean isBlacklisted(String token);
+    // 요청마다 계산한 digest를 검증 캐시와 함께 쓰도록 digest로 조회 (SHA-256 1회)
+    boolean isBlacklisted(TokenDigest digest);
+
+    default boolean isBlacklisted(String token) {
+        return isBlacklisted(TokenDigest.of(token));
+    }
     void cleanupExpiredTokens();
 }
\ No newline at end of file
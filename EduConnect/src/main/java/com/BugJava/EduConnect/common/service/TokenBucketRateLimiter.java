@@ -0,0 +1,110 @@
+package com.BugJava.EduConnect.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키(IP, 이메일 등)별 token bucket 처리율 제한기
+ * - 버킷마다 개별 락 → 서로 다른 키끼리는 경합하지 않는다.
+ * - 가득 찬 상태로 돌아갈 만큼 쓰이지 않은 버킷은 만료 (새로 만든 버킷과 동일하므로 안전)
+ * - 버킷 수는 Caffeine maximumSize로 제한 → 키를 무작위로 뿌려도 메모리가 늘지 않고,
+ *   정리 비용은 요청마다 O(1)로 상각된다. 상한을 넘어도 새 키는 각자 버킷을 받는다. (공용 버킷 없음)
+ *   밀려난 키는 가득 찬 버킷으로 다시 시작하지만, 자주 쓰이는 키(공격 대상 이메일 등)는 빈도 기반 정책상 남는다.
+ * - 메트릭: rate.limit.buckets(보유 중인 버킷 수)
+ * @author rua
+ */
+@Component
+public class TokenBucketRateLimiter {
+
+    private final Cache<String, Bucket> buckets;
+
+    public TokenBucketRateLimiter(@Value("${rate-limit.max-keys:100000}") int maxKeys, MeterRegistry meterRegistry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfter(new UntilRefilled())
+                .executor(Runnable::run) // 정리 작업은 호출 스레드에서 조금씩 (별도 스레드 풀 불필요)
+                .build();
+        Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize)
+                .description("처리율 제한 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /** 제한 규칙 - capacity: 순간 허용량, refillPeriodMillis 동안 capacity만큼 다시 채워진다. */
+    public record Limit(String name, long capacity, long refillPeriodMillis) {
+        double tokensPerNano() {
+            return (double) capacity / TimeUnit.MILLISECONDS.toNanos(refillPeriodMillis);
+        }
+    }
+
+    /** 판정 결과 - 응답 헤더(RateLimit-*, Retry-After)에 그대로 사용 */
+    public record Decision(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+    }
+
+    public Decision tryConsume(Limit limit, String key) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.get(limit.name() + ':' + key, k -> new Bucket(limit, now));
+        return bucket.tryConsume(limit, now);
+    }
+
+    // 만료 항목 정리는 접근 시 상각 처리되고, 요청이 없는 동안에도 버킷 수 메트릭이 맞도록 주기적으로 한 번 더
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-millis:60000}")
+    public void evictIdleBuckets() {
+        buckets.cleanUp();
+    }
+
+    private static final class Bucket {
+        private final long idleNanos; // 빈 버킷이 다시 가득 차는 시간
+        private double tokens;
+        private long lastRefillNanos;
+
+        Bucket(Limit limit, long now) {
+            this.idleNanos = TimeUnit.MILLISECONDS.toNanos(limit.refillPeriodMillis());
+            this.tokens = limit.capacity();
+            this.lastRefillNanos = now;
+        }
+
+        synchronized Decision tryConsume(Limit limit, long now) {
+            double rate = limit.tokensPerNano();
+            tokens = Math.min(limit.capacity(), tokens + (now - lastRefillNanos) * rate);
+            lastRefillNanos = now;
+
+            boolean allowed = tokens >= 1.0;
+            if (allowed) {
+                tokens -= 1.0;
+            }
+            long resetSeconds = toSeconds((limit.capacity() - tokens) / rate);
+            long retryAfterSeconds = allowed ? 0 : Math.max(1, toSeconds((1.0 - tokens) / rate));
+            return new Decision(allowed, limit.capacity(), (long) tokens, resetSeconds, retryAfterSeconds);
+        }
+
+        private static long toSeconds(double nanos) {
+            return (long) Math.ceil(nanos / 1_000_000_000.0);
+        }
+    }
+
+    // 마지막 사용 후 다시 가득 찰 때까지 (제한마다 다름)
+    private static class UntilRefilled implements Expiry<String, Bucket> {
+        @Override
+        public long expireAfterCreate(String key, Bucket bucket, long currentTime) {
+            return bucket.idleNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.idleNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.idleNanos;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.BugJava.EduConnect.common.service;
+
+import com.BugJava.EduConnect.auth.dto.UserRevocation;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.common.dto.JwtPrincipal;
+import com.BugJava.EduConnect.common.util.LongLongHashMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 사용자 단위 토큰 폐기 (revocation epoch)
+ * - userId → notBefore(epoch 초) 하나만 저장: iat < notBefore 인 토큰은 모두 폐기된 것으로 본다.
+ * - "모든 기기 로그아웃"/권한 변경 시 토큰 수와 관계없이 쓰기 1번, 사용자당 메모리 16바이트
+ * - 폐기 시점 이전 토큰이 모두 만료될 시간(가장 긴 refresh token 유효기간)이 지나면 항목 자체를 제거
+ * - 영속화: users.tokens_valid_after에 함께 기록 → 기동 시 워밍업으로 재시작 전 폐기도 유지
+ *   jwt.revocation.sync-interval-millis 주기로 다시 읽어 다른 인스턴스에서 기록한 폐기도 반영 (요청 경로는 메모리만 조회)
+ * - 메트릭: jwt.revocation.users(폐기 epoch가 남아있는 사용자 수)
+ * @author rua
+ */
+@Component
+@Slf4j
+public class UserRevocationService {
+
+    private static final long NONE = 0L;
+
+    private final LongLongHashMap notBeforeByUser;
+    private final ExpiryWheel expiryWheel;
+    private final UserRepository userRepository;
+    private final long maxTokenValidityMillis;
+
+    public UserRevocationService(ExpiryWheel expiryWheel,
+                                 UserRepository userRepository,
+                                 @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+                                 @Value("${jwt.access-token-validity}") long accessTokenValidity,
+                                 @Value("${jwt.revocation.expected-users:1024}") int expectedUsers,
+                                 MeterRegistry meterRegistry) {
+        this.expiryWheel = expiryWheel;
+        this.userRepository = userRepository;
+        this.maxTokenValidityMillis = Math.max(refreshTokenValidity, accessTokenValidity);
+        this.notBeforeByUser = new LongLongHashMap(expectedUsers);
+        Gauge.builder("jwt.revocation.users", notBeforeByUser, LongLongHashMap::size)
+                .description("폐기 epoch가 남아있는 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /** 지금까지 발급된 해당 사용자의 모든 토큰 폐기 */
+    public void revokeAll(Long userId) {
+        long nowMillis = System.currentTimeMillis();
+        // iat는 초 단위(내림)이므로 "지금 이 초"에 발급된 토큰까지 포함되도록 다음 초부터 유효
+        long notBefore = nowMillis / 1000 + 1;
+        userRepository.raiseTokensValidAfter(userId, notBefore); // 실패하면 예외 → 폐기되지 않은 채로 성공 처리하지 않음
+        remember(userId, notBefore);
+        log.info("All tokens revoked for user {}", userId);
+    }
+
+    // 워밍업: 재시작 전에 기록된 폐기 중 아직 효력이 있는 것만 메모리로
+    @PostConstruct
+    void warmUp() {
+        log.info("User revocations warmed up: {} users", sync());
+    }
+
+    /** DB에 기록된 폐기 epoch 반영 (다른 인스턴스에서 기록된 것 포함), 새로 반영된 사용자 수 반환 */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-millis:60000}",
+            initialDelayString = "${jwt.revocation.sync-interval-millis:60000}")
+    public int sync() {
+        long since = (System.currentTimeMillis() - maxTokenValidityMillis) / 1000;
+        List<UserRevocation> revocations = userRepository.findByTokensValidAfterGreaterThan(since);
+        int applied = 0;
+        for (UserRevocation revocation : revocations) {
+            // 이미 같은(또는 더 늦은) 값이 있으면 만료 예약도 이미 되어 있음
+            if (notBeforeByUser.get(revocation.getId(), NONE) < revocation.getTokensValidAfter()) {
+                remember(revocation.getId(), revocation.getTokensValidAfter());
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private void remember(long userId, long notBefore) {
+        notBeforeByUser.putIfGreater(userId, notBefore);
+        expiryWheel.schedule(notBefore * 1000 + maxTokenValidityMillis, () -> notBeforeByUser.remove(userId, notBefore));
+    }
+
+    public boolean isRevoked(JwtPrincipal principal) {
+        long notBefore = notBeforeByUser.get(principal.userId(), NONE);
+        return notBefore != NONE && principal.issuedAt() < notBefore;
+    }
+
+    /**
+     * 새 토큰의 iat (epoch 초)
+     * - 폐기 직후 같은 초 안에 다시 로그인해도 새 토큰이 폐기 대상이 되지 않도록 notBefore 이상으로 맞춘다.
+     */
+    public long issuedAtFor(Long userId, long nowMillis) {
+        return Math.max(nowMillis / 1000, notBeforeByUser.get(userId, NONE));
+    }
+}
@@ -0,0 +1,83 @@
+package com.BugJava.EduConnect.common.service;
+
+import com.BugJava.EduConnect.common.dto.JwtPrincipal;
+import com.BugJava.EduConnect.common.util.TokenDigest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰 캐시
+ * - 키: 토큰의 SHA-256 digest, 값: 디코딩된 JwtPrincipal + 검증에 쓴 서명 키의 kid
+ * - 항목은 토큰 자체의 exp 시점에 만료되고, 최대 개수를 넘으면 사용 빈도가 낮은 것부터 제거된다.
+ * - 캐시 히트 시 HMAC 검증/JSON 디코딩을 모두 건너뛴다.
+ * - 서명 키가 폐기되면 그 kid로 검증된 항목만 골라서 비운다. (다른 키의 항목은 그대로 히트)
+ * - 메트릭: cache.gets{cache=jwt.verified-tokens,result=hit|miss}, cache.evictions, cache.size
+ * @author rua
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private final Cache<TokenDigest, Entry> cache;
+
+    // kid는 키 폐기 시 선택적 제거용
+    private record Entry(JwtPrincipal principal, String kid) {
+    }
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public JwtPrincipal get(TokenDigest digest) {
+        Entry entry = cache.getIfPresent(digest);
+        return entry != null ? entry.principal() : null;
+    }
+
+    public void put(TokenDigest digest, JwtPrincipal principal, String kid) {
+        cache.put(digest, new Entry(principal, kid));
+    }
+
+    // 로그아웃/블랙리스트 등록 시 즉시 제거
+    public void invalidate(TokenDigest digest) {
+        cache.invalidate(digest);
+    }
+
+    // 폐기된 kid로 검증된 항목만 제거
+    public void invalidateKids(Set<String> kids) {
+        cache.asMap().values().removeIf(entry -> kids.contains(entry.kid()));
+    }
+
+    // 항목 수명 = 토큰의 남은 유효시간 (exp를 넘겨서 살아남는 항목이 없도록)
+    private static class UntilTokenExpiry implements Expiry<TokenDigest, Entry> {
+        @Override
+        public long expireAfterCreate(TokenDigest key, Entry value, long currentTime) {
+            long remainingMillis = value.principal().expiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,32 +1,33 @@
 package com.BugJava.EduConnect.common.util;
 
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.common.security.JwtAuthenticationToken;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
 import java.util.Optional;
-import java.util.Set;
 
+/**
+ * 역할 검사는 역할 비트(Role.mask) AND 연산 한 번으로 처리한다.
+ * - JwtAuthenticationToken이면 권한 목록을 보지 않고 roleMask() 사용
+ * - 그 밖의 Authentication(테스트용 등)은 권한 문자열로 비트를 계산해 같은 규칙 적용
+ */
 @Component
 public class AuthorizationUtil {
 
+    private static final int ADMIN_MASK = Role.ADMIN.mask();
+
     public void checkOwnerOrAdmin(Long ownerId) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if (authentication == null || !authentication.isAuthenticated() || !(authentication.getPrincipal() instanceof Long)) {
+        if (authentication == null || !authentication.isAuthenticated() || !(authentication.getPrincipal() instanceof Long currentUserId)) {
             throw new AccessDeniedException("인증되지 않은 사용자입니다.");
         }
 
-        Long currentUserId = (Long) authentication.getPrincipal();
-
-        boolean isAdmin = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(role -> role.equals("ROLE_ADMIN"));
-
-        if (isAdmin) {
+        if ((roleMask(authentication) & ADMIN_MASK) != 0) {
             return; // 관리자는 모든 권한을 가짐
         }
 
@@ -37,9 +38,21 @@ public class AuthorizationUtil {
 
     /**
      * 작성자 본인이거나 지정된 역할 중 하나라도 보유하면 통과.
+     * 예) checkOwnerOrAnyRole(ownerId, Role.INSTRUCTOR, Role.ADMIN)
+     */
+    public void checkOwnerOrAnyRole(Long ownerId, Role... allowedRoles) {
+        checkOwnerOrAnyRole(ownerId, Role.maskOf(allowedRoles));
+    }
+
+    /**
+     * 문자열 권한 버전 (기존 호출부 호환)
      * 예) checkOwnerOrAnyRole(ownerId, "ROLE_INSTRUCTOR", "ROLE_ADMIN")
      */
     public void checkOwnerOrAnyRole(Long ownerId, String... allowedRoles) {
+        checkOwnerOrAnyRole(ownerId, maskOfAuthorities(allowedRoles));
+    }
+
+    private void checkOwnerOrAnyRole(Long ownerId, int allowedMask) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 
         if (auth == null || !auth.isAuthenticated()) {
@@ -52,13 +65,8 @@ public class AuthorizationUtil {
             throw new AccessDeniedException("지원하지 않는 인증 주체 타입입니다.");
         }
 
-        // 역할 보유 여부
-        boolean hasAllowedRole = auth.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(granted -> Arrays.stream(allowedRoles).anyMatch(granted::equals));
-
         // 역할이 있으면 바로 통과
-        if (hasAllowedRole) return;
+        if ((roleMask(auth) & allowedMask) != 0) return;
 
         // 아니면 owner와 동일해야 통과
         if (!ownerId.equals(currentUserId)) {
@@ -67,13 +75,19 @@ public class AuthorizationUtil {
     }
 
     /** 순수 역할 체크만 필요할 때 */
+    public boolean hasAnyRole(Role... roles) {
+        return hasAnyRoleMask(Role.maskOf(roles));
+    }
+
+    /** 순수 역할 체크만 필요할 때 (문자열 권한 버전) */
     public boolean hasAnyRole(String... roles) {
+        return hasAnyRoleMask(maskOfAuthorities(roles));
+    }
+
+    private boolean hasAnyRoleMask(int mask) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) return false;
-        Set<String> target = Set.of(roles);
-        return auth.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(target::contains);
+        return (roleMask(auth) & mask) != 0;
     }
 
     /** 현재 사용자 ID (Optional) */
@@ -84,4 +98,22 @@ public class AuthorizationUtil {
         return (principal instanceof Long l) ? Optional.of(l) : Optional.empty();
     }
 
+    private static int roleMask(Authentication auth) {
+        if (auth instanceof JwtAuthenticationToken jwt) {
+            return jwt.roleMask();
+        }
+        int mask = 0;
+        for (GrantedAuthority authority : auth.getAuthorities()) {
+            mask |= Role.maskOfAuthority(authority.getAuthority());
+        }
+        return mask;
+    }
+
+    private static int maskOfAuthorities(String... authorities) {
+        int mask = 0;
+        for (String authority : authorities) {
+            mask |= Role.maskOfAuthority(authority);
+        }
+        return mask;
+    }
 }
@@ -0,0 +1,60 @@
+package com.BugJava.EduConnect.common.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문자 bigram 토크나이저 (한글/영문 공용, 형태소 분석 없음)
+ * - 정규화: 소문자 + 연속 공백을 공백 하나로 + 앞뒤 공백 제거
+ * - 정규화된 문자열의 인접한 두 글자를 토큰으로 사용 ("스프링 부트" → 스프, 프링, "링 ", " 부", 부트)
+ * - 검색어의 모든 bigram을 포함하는 문서 = LIKE '%검색어%'의 후보 (공백/기호도 그대로 비교되므로 "C++" 같은 검색어도 처리)
+ * @author rua
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() { }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.append(c);
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    // 문서용: bigram → 등장 횟수
+    public static Map<String, Integer> frequencies(String text) {
+        String normalized = normalize(text);
+        Map<String, Integer> result = new HashMap<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            result.merge(normalized.substring(i, i + 2), 1, Integer::sum);
+        }
+        return result;
+    }
+
+    // 검색어용: 중복 없는 bigram 집합 (정규화 후 두 글자 미만이면 빈 집합)
+    public static Set<String> terms(String keyword) {
+        String normalized = normalize(keyword);
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            result.add(normalized.substring(i, i + 2));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package com.BugJava.EduConnect.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * TokenDigest 전용 lock-free Bloom filter
+ * - mightContain() == false 이면 "절대 없음" → 대부분의 정상 요청은 Map 조회 없이 끝난다.
+ * - digest 자체가 균등 분포의 해시이므로 high/low 두 값으로 double hashing 한다.
+ * - 삭제는 지원하지 않는다. (필요하면 새 필터를 만들어 교체)
+ * @author rua
+ */
+public final class ConcurrentBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public ConcurrentBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1L, expectedInsertions);
+        // m = -n ln p / (ln 2)^2 , k = m/n ln 2
+        long optimalBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1L, (optimalBits + 63) >>> 6);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = (int) Math.max(1L, Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    public void put(TokenDigest digest) {
+        for (int i = 0; i < hashCount; i++) {
+            setBit(bitIndex(digest, i));
+        }
+    }
+
+    public boolean mightContain(TokenDigest digest) {
+        for (int i = 0; i < hashCount; i++) {
+            long index = bitIndex(digest, i);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long bitIndex(TokenDigest digest, int i) {
+        return Math.floorMod(digest.high() + i * digest.low(), bitCount);
+    }
+
+    private void setBit(long index) {
+        int wordIndex = (int) (index >>> 6);
+        long mask = 1L << index; // shift 연산은 하위 6비트만 사용
+        while (true) {
+            long current = words.get(wordIndex);
+            if ((current & mask) != 0 || words.compareAndSet(wordIndex, current, current | mask)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.BugJava.EduConnect.common.util;
+
+/**
+ * 요청 단위 JDBC 커넥션 점유 시간 누적 (스레드 로컬)
+ * - ConnectionHoldMetricsFilter가 요청 시작/끝에 begin()/end() 호출
+ * - ConnectionHoldTrackingDataSource가 커넥션 획득/반납 시점을 기록
+ * - 한 요청에서 커넥션을 여러 번(또는 동시에 둘 이상) 잡으면 점유 시간을 모두 더한다. (풀 입장의 비용)
+ * @author rua
+ */
+public final class ConnectionHoldTracker {
+
+    private static final ThreadLocal<Hold> CURRENT = new ThreadLocal<>();
+
+    private ConnectionHoldTracker() {
+    }
+
+    /** 요청 하나의 누적 결과 */
+    public static final class Hold {
+        private long nanos;
+        private int acquisitions;
+
+        public long nanos() {
+            return nanos;
+        }
+
+        public int acquisitions() {
+            return acquisitions;
+        }
+    }
+
+    public static void begin() {
+        CURRENT.set(new Hold());
+    }
+
+    public static Hold end() {
+        Hold hold = CURRENT.get();
+        CURRENT.remove();
+        return hold;
+    }
+
+    /** 추적 중인 요청 스레드인지 (아니면 커넥션을 감싸지 않는다) */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /** 커넥션 반납 시 호출 - 획득 시각(System.nanoTime)부터의 시간을 더한다. */
+    public static void released(long acquiredAt) {
+        Hold hold = CURRENT.get();
+        if (hold != null) {
+            hold.nanos += System.nanoTime() - acquiredAt;
+            hold.acquisitions++;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.BugJava.EduConnect.common.util;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long → long 전용 open addressing(linear probing) Map
+ * - 키/값을 long[] 두 배열에 그대로 저장 → 항목당 16바이트, 박싱/Entry 객체 없음
+ * - 읽기는 StampedLock 낙관적 읽기(락 없이 읽고 검증), 쓰기는 단일 write lock
+ * - 키 0은 빈 슬롯 표시로 쓰므로 저장할 수 없다. (사용자 PK는 1부터 시작)
+ * @author rua
+ */
+public final class LongLongHashMap {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+    }
+
+    public long get(long key, long defaultValue) {
+        checkKey(key);
+        long stamp = lock.tryOptimisticRead();
+        long[] currentKeys = keys;
+        long[] currentValues = values;
+        // resize() 도중이면 두 배열 길이가 다를 수 있다 → 바로 읽기 락으로
+        if (currentKeys.length == currentValues.length) {
+            long result = find(currentKeys, currentValues, key, defaultValue);
+            if (lock.validate(stamp)) {
+                return result;
+            }
+        }
+        // 쓰기와 겹친 경우에만 읽기 락
+        stamp = lock.readLock();
+        try {
+            return find(keys, values, key, defaultValue);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** 기존 값보다 클 때만 갱신 (값이 시각처럼 단조 증가해야 하는 경우) */
+    public void putIfGreater(long key, long value) {
+        checkKey(key);
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotOf(keys, key);
+            if (keys[slot] == key) {
+                values[slot] = Math.max(values[slot], value);
+                return;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size > keys.length * LOAD_FACTOR) {
+                resize();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** 현재 값이 expectedValue와 같을 때만 제거 (그 사이 갱신됐으면 유지) */
+    public boolean remove(long key, long expectedValue) {
+        checkKey(key);
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotOf(keys, key);
+            if (keys[slot] != key || values[slot] != expectedValue) {
+                return false;
+            }
+            deleteSlot(slot);
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 낙관적 읽기 중에는 배열이 교체될 수 있으므로 인자로 받은 배열만 사용하고, 최대 길이만큼만 탐색
+    private static long find(long[] keys, long[] values, long key, long defaultValue) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        for (int probes = 0; probes < keys.length; probes++) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == 0L) {
+                return defaultValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    // 키가 있으면 그 슬롯, 없으면 들어갈 빈 슬롯
+    private static int slotOf(long[] keys, long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0L && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // linear probing 삭제: 뒤따르는 항목을 당겨서 탐색 체인이 끊기지 않게 한다. (tombstone 없음)
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != 0L) {
+            int home = mix(keys[next]) & mask;
+            // next 항목의 원래 위치가 (hole, next] 구간 밖이면 hole로 당길 수 있다.
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = 0L;
+        values[hole] = 0L;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        long[] newKeys = new long[oldKeys.length << 1];
+        long[] newValues = new long[oldValues.length << 1];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0L) {
+                int slot = slotOf(newKeys, oldKeys[i]);
+                newKeys[slot] = oldKeys[i];
+                newValues[slot] = oldValues[i];
+            }
+        }
+        this.keys = newKeys;
+        this.values = newValues;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static void checkKey(long key) {
+        if (key == 0L) {
+            throw new IllegalArgumentException("key 0 is reserved");
+        }
+    }
+}
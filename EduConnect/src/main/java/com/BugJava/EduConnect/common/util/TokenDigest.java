@@ -0,0 +1,40 @@
+package com.BugJava.EduConnect.common.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 문자열 대신 사용하는 고정 크기(128bit) 키
+ * - SHA-256 결과의 앞 16바이트를 두 개의 long으로 보관한다.
+ * - ~200자 JWT 문자열을 그대로 키로 쓰는 것보다 메모리/해시 비용이 작다.
+ * @author rua
+ */
+public record TokenDigest(long high, long low) {
+
+    // MessageDigest는 thread-safe 하지 않으므로 스레드별로 재사용
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    public static TokenDigest of(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.wrap(hash);
+        return new TokenDigest(buffer.getLong(), buffer.getLong());
+    }
+
+    /** 저장용 문자열 (16진수 32자) */
+    public String toHex() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    public static TokenDigest fromHex(String hex) {
+        return new TokenDigest(Long.parseUnsignedLong(hex.substring(0, 16), 16),
+                Long.parseUnsignedLong(hex.substring(16, 32), 16));
+    }
+}
@@ -6,7 +6,7 @@ import com.BugJava.EduConnect.auth.entity.Users;
 import lombok.*;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "fb_comments") // QnA Comment(comments)와 테이블 분리
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -15,7 +15,8 @@ import lombok.*;
 public class FbComment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fb_comments_seq")
+    @SequenceGenerator(name = "fb_comments_seq", sequenceName = "fb_comments_seq", allocationSize = 50)
     private Long id;
 
     @Lob
@@ -7,10 +7,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.Optional;
 
 public interface FbCommentRepository extends JpaRepository<FbComment, Long> {
     @EntityGraph(attributePaths = {"user", "post"})
     Optional<FbComment> findById(Long id);
-}
 
+    // 게시글 삭제용: 댓글 수와 관계없이 DELETE 한 번 (엔티티 로딩/cascade 건별 DELETE 없음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from FbComment c where c.post.id = :postId")
+    int bulkDeleteByPostId(@Param("postId") Long postId);
+}
@@ -3,6 +3,9 @@ package com.BugJava.EduConnect.freeboard.repository;
 import com.BugJava.EduConnect.freeboard.domain.FbPost;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +18,13 @@ public interface FbPostRepository extends JpaRepository<FbPost, Long> {
 
     @EntityGraph(attributePaths = "user")
     List<FbPost> findAll();
-}
\ No newline at end of file
+
+    // 삭제 권한 확인용: 작성자 id만 (게시글/댓글 엔티티 로딩 없음)
+    @Query("select p.user.id from FbPost p where p.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
+
+    // 댓글을 먼저 지운 뒤 호출 (FbCommentRepository.bulkDeleteByPostId)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from FbPost p where p.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
+}
@@ -8,6 +8,7 @@ import com.BugJava.EduConnect.freeboard.domain.FbPost;
 import com.BugJava.EduConnect.freeboard.dto.FbPostRequest;
 import com.BugJava.EduConnect.freeboard.dto.FbPostResponse;
 import com.BugJava.EduConnect.freeboard.exception.PostNotFoundException;
+import com.BugJava.EduConnect.freeboard.repository.FbCommentRepository;
 import com.BugJava.EduConnect.freeboard.repository.FbPostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
 public class FbPostService {
 
     private final FbPostRepository postRepository;
+    private final FbCommentRepository commentRepository;
     private final UserRepository userRepository;
     private final AuthorizationUtil authorizationUtil;
 
@@ -64,13 +66,19 @@ public class FbPostService {
         return FbPostResponse.from(post);
     }
 
+    /**
+     * 게시글 삭제 - 댓글 수와 관계없이 SQL 3회 (작성자 id SELECT + 댓글 DELETE + 게시글 DELETE)
+     * - 게시글/댓글을 로딩해 cascade로 한 건씩 지우지 않는다.
+     */
     @Transactional
     public void deletePost(Long id, Long userId) {
-        FbPost post = postRepository.findWithCommentsById(id)
+        Long ownerId = postRepository.findOwnerIdById(id)
                 .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
 
-        authorizationUtil.checkOwnerOrAdmin(post.getUser().getId());
+        authorizationUtil.checkOwnerOrAdmin(ownerId);
 
-        postRepository.delete(post);
+        // FK 순서: 댓글 → 게시글
+        commentRepository.bulkDeleteByPostId(id);
+        postRepository.bulkDeleteById(id);
     }
 }
\ No newline at end of file
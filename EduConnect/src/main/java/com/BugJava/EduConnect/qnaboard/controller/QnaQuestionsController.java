@@ -2,7 +2,9 @@ package com.BugJava.EduConnect.qnaboard.controller;
 
 import com.BugJava.EduConnect.common.dto.ApiResponse;
 import com.BugJava.EduConnect.qnaboard.dto.*;
+import com.BugJava.EduConnect.qnaboard.service.QuestionBulkImportService;
 import com.BugJava.EduConnect.qnaboard.service.QuestionService;
+import com.BugJava.EduConnect.qnaboard.service.QuestionThreadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
@@ -12,10 +14,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+
 /**
  * @author rua
  */
@@ -25,6 +30,8 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class QnaQuestionsController {
     final public QuestionService questionService;
+    final public QuestionThreadService questionThreadService;
+    final public QuestionBulkImportService questionBulkImportService;
 
     @GetMapping
     @Operation(summary = "QnA 전체 목록 조회")
@@ -36,7 +43,7 @@ public class QnaQuestionsController {
     }
 
     @PostMapping("/search")
-    @Operation(summary = "QnA 검색")
+    @Operation(summary = "QnA 검색", description = "제목/본문 키워드 검색. sort=relevance 로 관련도순 정렬 (기본: 최신순)")
     public ResponseEntity<ApiResponse<Page<QuestionAllResponse>>> getQuestions(
             @Valid @RequestBody QuestionSearchRequest req,
             @Parameter(hidden = true)
@@ -45,6 +52,46 @@ public class QnaQuestionsController {
         return ResponseEntity.ok(ApiResponse.success(result, "QnA 리스트 반환"));
     }
 
+    @GetMapping("/slice")
+    @Operation(summary = "QnA 전체 목록 조회 (count 없는 Slice 방식)")
+    public ResponseEntity<ApiResponse<QuestionSliceResponse>> sliceQuestions(
+            @Parameter(description = "캐시된 근사 총 개수 포함 여부") @RequestParam(defaultValue = "false") boolean withTotal,
+            @Parameter(hidden = true)
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        QuestionSliceResponse result = questionService.sliceQuestions(null, pageable, withTotal);
+        return ResponseEntity.ok(ApiResponse.success(result, "QnA 전체 목록 반환"));
+    }
+
+    @PostMapping("/search/slice")
+    @Operation(summary = "QnA 검색 (count 없는 Slice 방식)")
+    public ResponseEntity<ApiResponse<QuestionSliceResponse>> sliceSearchQuestions(
+            @Valid @RequestBody QuestionSearchRequest req,
+            @Parameter(description = "캐시된 근사 총 개수 포함 여부") @RequestParam(defaultValue = "false") boolean withTotal,
+            @Parameter(hidden = true)
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        QuestionSliceResponse result = questionService.sliceQuestions(req, pageable, withTotal);
+        return ResponseEntity.ok(ApiResponse.success(result, "QnA 리스트 반환"));
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "QnA 전체 목록 조회 (커서 방식)")
+    public ResponseEntity<ApiResponse<QuestionScrollResponse>> scrollQuestions(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        QuestionScrollResponse result = questionService.scrollQuestions(null, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(result, "QnA 전체 목록 반환"));
+    }
+
+    @PostMapping("/search/scroll")
+    @Operation(summary = "QnA 검색 (커서 방식)")
+    public ResponseEntity<ApiResponse<QuestionScrollResponse>> scrollSearchQuestions(
+            @Valid @RequestBody QuestionSearchRequest req,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        QuestionScrollResponse result = questionService.scrollQuestions(req, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(result, "QnA 리스트 반환"));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "QnA 글 상세 조회(전체공개)")
     public ResponseEntity<ApiResponse<QuestionResponse>> getQuestionDetailById(@PathVariable Long id) {
@@ -52,6 +99,13 @@ public class QnaQuestionsController {
         return ResponseEntity.ok(ApiResponse.success(body, "QnA 상세 반환"));
     }
 
+    @GetMapping("/{id}/thread")
+    @Operation(summary = "QnA 스레드 조회", description = "질문 상세 + 답변 목록 + 답변별 댓글을 한 번에 반환")
+    public ResponseEntity<ApiResponse<QuestionThreadResponse>> getQuestionThread(@PathVariable Long id) {
+        QuestionThreadResponse body = questionThreadService.getThread(id);
+        return ResponseEntity.ok(ApiResponse.success(body, "QnA 스레드 반환"));
+    }
+
     @PostMapping
     @Operation(summary = "QnA 질문 등록")
     public ResponseEntity<ApiResponse<QuestionResponse>> createQuestion(
@@ -62,6 +116,16 @@ public class QnaQuestionsController {
         return ResponseEntity.ok(ApiResponse.success(null, "QnA 등록 완료"));
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "QnA 질문 일괄 등록 (강사)", description = "질문 객체 JSON 배열을 스트리밍으로 읽어 청크 단위 트랜잭션으로 저장")
+    public ResponseEntity<ApiResponse<QuestionBulkImportResponse>> bulkImportQuestions(
+            InputStream body,
+            @AuthenticationPrincipal Long userId
+    ) {
+        QuestionBulkImportResponse result = questionBulkImportService.importQuestions(userId, body);
+        return ResponseEntity.ok(ApiResponse.success(result, "QnA 일괄 등록 완료"));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "QnA 질문 수정")
     public ResponseEntity<ApiResponse<QuestionResponse>> updateQuestion(
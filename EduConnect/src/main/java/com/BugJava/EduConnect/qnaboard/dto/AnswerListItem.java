@@ -1,9 +1,11 @@
 package com.BugJava.EduConnect.qnaboard.dto;
 
+import com.BugJava.EduConnect.qnaboard.entity.Answer;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * @author rua
@@ -16,4 +18,16 @@ public class AnswerListItem {
     private String writerName;
     private LocalDateTime createdAt;
     private int commentCount;
-}
\ No newline at end of file
+    private List<CommentListItem> comments;
+
+    public static AnswerListItem of(Answer answer, List<CommentListItem> comments) {
+        return AnswerListItem.builder()
+                .id(answer.getId())
+                .content(answer.getContent())
+                .writerName(answer.getUser().getName())
+                .createdAt(answer.getCreatedAt())
+                .commentCount(comments.size())
+                .comments(comments)
+                .build();
+    }
+}
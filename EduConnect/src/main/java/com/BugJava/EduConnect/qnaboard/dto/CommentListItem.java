@@ -1,5 +1,6 @@
 package com.BugJava.EduConnect.qnaboard.dto;
 
+import com.BugJava.EduConnect.qnaboard.entity.Comment;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -15,4 +16,13 @@ public class CommentListItem {
     private String content;
     private String writerName;
     private LocalDateTime createdAt;
-}
\ No newline at end of file
+
+    public static CommentListItem from(Comment comment) {
+        return CommentListItem.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .writerName(comment.getUser().getName())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.BugJava.EduConnect.qnaboard.dto;
 
+import com.BugJava.EduConnect.auth.enums.Track;
 import com.BugJava.EduConnect.qnaboard.entity.Question;
 import lombok.*;
 
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
  */
 @Getter
 @Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class QuestionAllResponse {
     private Long id;
     private String title;
@@ -17,6 +19,14 @@ public class QuestionAllResponse {
     private String startTrack;   // 작성자 트랙
     private String endTrack;     // 질문 대상 트랙 (q.track)
     private LocalDateTime createdAt;
+    private long answerCount;    // 비정규화 카운터 (추가 쿼리 없음)
+    private long commentCount;
+
+    // 프로젝션 전용 (QuestionQueryRepositoryImpl의 cb.construct) - 엔티티를 거치지 않고 컬럼 값으로 바로 생성
+    public QuestionAllResponse(Long id, String title, String writerName, Track writerTrack, Track track,
+                               LocalDateTime createdAt, long answerCount, long commentCount) {
+        this(id, title, writerName, writerTrack.name(), track.name(), createdAt, answerCount, commentCount);
+    }
 
     public static QuestionAllResponse from(Question q) {
         return QuestionAllResponse.builder()
@@ -26,6 +36,8 @@ public class QuestionAllResponse {
                 .startTrack(q.getUser().getTrack().name())
                 .endTrack(q.getTrack().name())
                 .createdAt(q.getCreatedAt())
+                .answerCount(q.getAnswerCount())
+                .commentCount(q.getCommentCount())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.BugJava.EduConnect.qnaboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 질문 일괄 등록 결과
+ * - rejectedIndexes: 검증에 실패해 건너뛴 원소의 배열 인덱스 (최대 100개까지)
+ * @author rua
+ */
+@Getter
+@Builder
+public class QuestionBulkImportResponse {
+    private int imported;
+    private int rejected;
+    private List<Integer> rejectedIndexes;
+    private int chunks;
+}
@@ -0,0 +1,41 @@
+package com.BugJava.EduConnect.qnaboard.dto;
+
+import com.BugJava.EduConnect.qnaboard.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 목록 커서 (createdAt DESC, id DESC 정렬의 마지막 항목 위치)
+ * - 클라이언트에는 base64url 문자열로만 노출 → 형식을 바꿔도 API는 그대로
+ * @param createdAt 마지막 항목 작성 시각
+ * @param id        마지막 항목 PK (같은 시각 항목 구분)
+ * @author rua
+ */
+public record QuestionCursor(LocalDateTime createdAt, Long id) {
+
+    public static QuestionCursor of(QuestionAllResponse last) {
+        return new QuestionCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null/빈 문자열이면 첫 페이지 (null 반환) */
+    public static QuestionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.lastIndexOf(',');
+            return new QuestionCursor(LocalDateTime.parse(raw.substring(0, comma)), Long.valueOf(raw.substring(comma + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+    }
+}
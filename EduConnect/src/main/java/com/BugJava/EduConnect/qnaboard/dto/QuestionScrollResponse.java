@@ -0,0 +1,20 @@
+package com.BugJava.EduConnect.qnaboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답
+ * - nextCursor를 다음 요청의 cursor로 그대로 넘기면 이어서 조회 (마지막 페이지면 null)
+ * @author rua
+ */
+@Getter
+@Builder
+public class QuestionScrollResponse {
+    private List<QuestionAllResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,22 @@
+package com.BugJava.EduConnect.qnaboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * count 쿼리 없는 페이지 응답 (Slice)
+ * - hasNext로 다음 페이지 여부만 알려준다.
+ * - approximateTotal: withTotal=true 요청 시에만 채워지는 캐시된 총 개수 (최대 TTL만큼 늦을 수 있음)
+ * @author rua
+ */
+@Getter
+@Builder
+public class QuestionSliceResponse {
+    private List<QuestionAllResponse> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long approximateTotal;
+}
@@ -0,0 +1,17 @@
+package com.BugJava.EduConnect.qnaboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 질문 스레드 (질문 상세 + 답변 + 답변별 댓글)
+ * @author rua
+ */
+@Getter
+@Builder
+public class QuestionThreadResponse {
+    private QuestionResponse question;
+    private List<AnswerListItem> answers;
+}
@@ -3,9 +3,11 @@ package com.BugJava.EduConnect.qnaboard.entity;
 import com.BugJava.EduConnect.auth.entity.Users;
 import com.BugJava.EduConnect.auth.enums.Track;
 import com.BugJava.EduConnect.common.entity.BaseEntity;
+import com.BugJava.EduConnect.qnaboard.service.QuestionIndexListener;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,13 +19,16 @@ import java.util.List;
 
 @Entity
 @Table(name = "question")
+@EntityListeners(QuestionIndexListener.class) // 검색 색인 동기화
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Question extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스 + pooled(50개씩 선할당) → INSERT 전에 id를 알 수 있어 JDBC 배치 가능 (IDENTITY는 행마다 즉시 INSERT)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "question_seq")
+    @SequenceGenerator(name = "question_seq", sequenceName = "question_seq", allocationSize = 50)
     private Long id;
 
     // 질문 작성자
@@ -47,6 +52,17 @@ public class Question extends BaseEntity {
     @Column
     private LocalDateTime deletedAt;
 
+    // 비정규화 카운터 (삭제되지 않은 답변/댓글 수)
+    // - QuestionRepository의 원자적 UPDATE(x = x + :delta)로만 변경 → 엔티티 flush가 덮어쓰지 않도록 updatable = false
+    // - QuestionCounterRepairJob이 주기적으로 실제 개수로 재계산
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long answerCount;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long commentCount;
+
     @OneToMany(mappedBy = "question")
     private List<Answer> answers = new ArrayList<>();
 
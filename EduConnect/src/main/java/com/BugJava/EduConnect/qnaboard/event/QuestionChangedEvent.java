@@ -0,0 +1,18 @@
+package com.BugJava.EduConnect.qnaboard.event;
+
+/**
+ * 질문 상세(QuestionResponse)에 보이는 값이 바뀌었음을 알리는 이벤트
+ * - 질문 수정/삭제, 답변·댓글 등록/삭제(카운터 변경) 시 발행
+ * - questionId == null 이면 전체 (카운터 일괄 재계산 등)
+ * @author rua
+ */
+public record QuestionChangedEvent(Long questionId) {
+
+    public static QuestionChangedEvent all() {
+        return new QuestionChangedEvent(null);
+    }
+
+    public boolean isAll() {
+        return questionId == null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.BugJava.EduConnect.qnaboard.event;
+
+import com.BugJava.EduConnect.auth.enums.Track;
+
+/**
+ * 트랙별 질문 개수(목록 총 개수)가 바뀌었을 수 있음을 알리는 이벤트
+ * - 질문 등록/수정/삭제 시 발행, QuestionCountCache가 커밋 이후 해당 트랙 항목을 비운다.
+ * @author rua
+ */
+public record QuestionCountChangedEvent(Track track) {
+}
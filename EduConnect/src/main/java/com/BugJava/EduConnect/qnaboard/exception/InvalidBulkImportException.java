@@ -0,0 +1,10 @@
+package com.BugJava.EduConnect.qnaboard.exception;
+
+/**
+ * @author rua
+ */
+public class InvalidBulkImportException extends RuntimeException {
+    public InvalidBulkImportException(String message) {
+        super(message);
+    }
+}
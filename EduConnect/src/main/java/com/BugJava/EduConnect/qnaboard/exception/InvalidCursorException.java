@@ -0,0 +1,10 @@
+package com.BugJava.EduConnect.qnaboard.exception;
+
+/**
+ * @author rua
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
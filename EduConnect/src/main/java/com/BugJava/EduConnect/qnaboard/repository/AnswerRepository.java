@@ -1,14 +1,44 @@
 package com.BugJava.EduConnect.qnaboard.repository;
 
 import com.BugJava.EduConnect.qnaboard.entity.Answer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @author rua
  */
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
     long countByQuestionIdAndIsDeletedFalse(Long questionId);
+
+    // 목록 응답(AnswerResponse)에서 작성자 이름을 쓰므로 작성자까지 한 번에
+    @EntityGraph(attributePaths = "user")
     List<Answer> findByQuestionIdAndIsDeletedFalse(Long questionId);
+
+    // 댓글 등록용: 삭제되지 않은 답변의 질문 id (존재 확인 겸용, 엔티티 로딩 없음)
+    @Query("select a.question.id from Answer a where a.id = :answerId and a.isDeleted = false")
+    Optional<Long> findLiveQuestionId(@Param("answerId") Long answerId);
+
+    // 스레드 조회용: 작성자까지 한 번에 (작성 순)
+    @Query("select a from Answer a join fetch a.user " +
+            "where a.question.id = :questionId and a.isDeleted = false order by a.createdAt asc, a.id asc")
+    List<Answer> findThreadAnswers(@Param("questionId") Long questionId);
+
+    // 질문 삭제 cascade: 답변을 로딩하지 않고 UPDATE 한 번으로 soft delete
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Answer a set a.isDeleted = true, a.deletedAt = :deletedAt " +
+            "where a.question.id = :questionId and a.isDeleted = false")
+    int softDeleteByQuestionId(@Param("questionId") Long questionId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 영구 삭제 대상 (QnaPurgeJob): 보존 기간이 지났고 남은 댓글이 없는 답변
+    @Query("select a.id from Answer a where a.isDeleted = true and a.deletedAt < :cutoff " +
+            "and not exists (select c.id from Comment c where c.answer = a) order by a.id")
+    List<Long> findPurgeableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 }
@@ -1,11 +1,17 @@
 package com.BugJava.EduConnect.qnaboard.repository;
 
 import com.BugJava.EduConnect.qnaboard.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @author rua
@@ -14,5 +20,33 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("select count(c) from Comment c where c.answer.question.id = :questionId")
     long countByQuestionId(@Param("questionId") Long questionId);
 
+    // 삭제용: 답변까지 join → 질문 id를 추가 SELECT 없이 얻는다.
+    @EntityGraph(attributePaths = "answer")
+    @Query("select c from Comment c where c.id = :id")
+    Optional<Comment> findWithAnswerById(@Param("id") Long id);
+
+    // 목록 응답(CommentResponse)에서 작성자 이름을 쓰므로 작성자까지 한 번에
+    @EntityGraph(attributePaths = "user")
     List<Comment> findByAnswerIdAndIsDeletedFalse(Long answerId);
-}
\ No newline at end of file
+
+    // 스레드 조회용: 여러 답변의 댓글을 IN 한 번으로, 작성자까지 (작성 순)
+    @Query("select c from Comment c join fetch c.user " +
+            "where c.answer.id in :answerIds and c.isDeleted = false order by c.createdAt asc, c.id asc")
+    List<Comment> findThreadComments(@Param("answerIds") Collection<Long> answerIds);
+
+    // 답변 삭제 cascade: 댓글을 로딩하지 않고 UPDATE 한 번으로 soft delete → 반환값으로 카운터 보정
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Comment c set c.isDeleted = true, c.deletedAt = :deletedAt " +
+            "where c.answer.id = :answerId and c.isDeleted = false")
+    int softDeleteByAnswerId(@Param("answerId") Long answerId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 질문 삭제 cascade: 질문에 달린 모든 답변의 댓글을 UPDATE 한 번으로
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Comment c set c.isDeleted = true, c.deletedAt = :deletedAt " +
+            "where c.isDeleted = false and c.answer.id in (select a.id from Answer a where a.question.id = :questionId)")
+    int softDeleteByQuestionId(@Param("questionId") Long questionId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 영구 삭제 대상 (QnaPurgeJob): 보존 기간이 지난 soft delete 댓글
+    @Query("select c.id from Comment c where c.isDeleted = true and c.deletedAt < :cutoff order by c.id")
+    List<Long> findPurgeableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
@@ -0,0 +1,29 @@
+package com.BugJava.EduConnect.qnaboard.repository;
+
+import com.BugJava.EduConnect.qnaboard.dto.QuestionAllResponse;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 목록 화면용 조회 - 엔티티 대신 필요한 컬럼만 QuestionAllResponse로 바로 select (content TEXT, Users 전체 행 제외)
+ * - findPage: Specification + Pageable, 총 개수는 필요할 때만 count 쿼리
+ * - findSlice: Specification + Pageable 정렬/OFFSET, size + 1건으로 hasNext 판단 (count 쿼리 없음)
+ * - findLatest: Specification + 최신순(createdAt DESC, id DESC) + LIMIT (커서 모드)
+ * - findResponsesByIds: 지정한 id들 (삭제된 질문 제외, 순서 보장 없음) - 검색 색인 결과 조회
+ * @author rua
+ */
+public interface QuestionQueryRepository {
+    Page<QuestionAllResponse> findPage(Specification<Question> spec, Pageable pageable);
+
+    Slice<QuestionAllResponse> findSlice(Specification<Question> spec, Pageable pageable);
+
+    List<QuestionAllResponse> findLatest(Specification<Question> spec, int limit);
+
+    List<QuestionAllResponse> findResponsesByIds(Collection<Long> ids);
+}
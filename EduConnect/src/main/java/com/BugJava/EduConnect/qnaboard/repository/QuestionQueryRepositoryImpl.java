@@ -0,0 +1,119 @@
+package com.BugJava.EduConnect.qnaboard.repository;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionAllResponse;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @author rua
+ */
+public class QuestionQueryRepositoryImpl implements QuestionQueryRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Page<QuestionAllResponse> findPage(Specification<Question> spec, Pageable pageable) {
+        List<QuestionAllResponse> content = select(spec, pageable, pageable.getPageSize());
+        // 첫 페이지가 size보다 적게 채워지는 등 총 개수를 알 수 있으면 count 쿼리 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<QuestionAllResponse> findSlice(Specification<Question> spec, Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        List<QuestionAllResponse> rows = select(spec, pageable, pageSize + 1); // 한 건 더 읽어 다음 페이지 여부 판단
+
+        boolean hasNext = rows.size() > pageSize;
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageSize) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<QuestionAllResponse> findLatest(Specification<Question> spec, int limit) {
+        return createQuery(spec, (root, cb) -> List.of(cb.desc(root.get("createdAt")), cb.desc(root.get("id"))))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<QuestionAllResponse> findResponsesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return createQuery(QuestionSpecs.notDeleted().and(QuestionSpecs.idIn(ids)), (root, cb) -> List.of())
+                .getResultList();
+    }
+
+    private List<QuestionAllResponse> select(Specification<Question> spec, Pageable pageable, int maxResults) {
+        TypedQuery<QuestionAllResponse> query = createQuery(spec,
+                (root, cb) -> QueryUtils.toOrders(pageable.getSort(), root, cb));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(maxResults);
+        }
+        return query.getResultList();
+    }
+
+    // select q.id, q.title, u.name, u.track, q.track, q.createdAt, q.answerCount, q.commentCount
+    // from question q join users u ... where {spec} order by {orders}
+    private TypedQuery<QuestionAllResponse> createQuery(Specification<Question> spec, OrderSupplier orders) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<QuestionAllResponse> query = cb.createQuery(QuestionAllResponse.class);
+        Root<Question> root = query.from(Question.class);
+        Join<Question, Users> user = root.join("user", JoinType.INNER);
+
+        query.select(cb.construct(QuestionAllResponse.class,
+                root.get("id"),
+                root.get("title"),
+                user.get("name"),
+                user.get("track"),
+                root.get("track"),
+                root.get("createdAt"),
+                root.get("answerCount"),
+                root.get("commentCount")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(orders.get(root, cb));
+        return em.createQuery(query);
+    }
+
+    private long count(Specification<Question> spec) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Question> root = query.from(Question.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+        return em.createQuery(query).getSingleResult();
+    }
+
+    @FunctionalInterface
+    private interface OrderSupplier {
+        List<Order> get(Root<Question> root, CriteriaBuilder cb);
+    }
+}
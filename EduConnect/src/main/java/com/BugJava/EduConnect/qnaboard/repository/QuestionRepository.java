@@ -1,20 +1,73 @@
 package com.BugJava.EduConnect.qnaboard.repository;
 
-import com.BugJava.EduConnect.auth.enums.Track;
 import com.BugJava.EduConnect.qnaboard.entity.Question;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * @author rua
  */
 @Repository
-public interface QuestionRepository extends JpaRepository<Question, Long>, JpaSpecificationExecutor<Question> {
-    @EntityGraph(attributePaths = {"user"})
-    Page<Question> findAll(Specification<Question> spec, Pageable pageable);
+public interface QuestionRepository extends JpaRepository<Question, Long>, JpaSpecificationExecutor<Question>,
+        QuestionQueryRepository {
+    // 상세 조회용: 작성자(이름/트랙)까지 한 번에
+    @EntityGraph(attributePaths = "user")
+    @Query("select q from Question q where q.id = :id")
+    Optional<Question> findDetailById(@Param("id") Long id);
+
+    // 검색 색인 적재용 (id 순 배치)
+    @Query("select q from Question q where q.isDeleted = false and q.id > :afterId order by q.id")
+    List<Question> findIndexBatch(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 카운터 증감은 DB에서 원자적으로 (동시 답변/댓글 등록 시 lost update 없음)
+    // flush: 같은 트랜잭션의 soft delete 등을 먼저 반영, clear: 영속성 컨텍스트의 오래된 카운터 값 제거
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Question q set q.answerCount = q.answerCount + :delta where q.id = :questionId")
+    int addAnswerCount(@Param("questionId") Long questionId, @Param("delta") long delta);
+
+    // 답변 등록용: 삭제되지 않은 질문일 때만 증가 → 반환값 0이면 질문 없음 (존재 확인 SELECT 생략)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Question q set q.answerCount = q.answerCount + 1 where q.id = :questionId and q.isDeleted = false")
+    int incrementAnswerCountIfLive(@Param("questionId") Long questionId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Question q set q.commentCount = q.commentCount + :delta where q.id = :questionId")
+    int addCommentCount(@Param("questionId") Long questionId, @Param("delta") long delta);
+
+    // 답변 삭제용: 답변/댓글 카운터를 UPDATE 한 번으로 (cascade로 지워진 댓글 수 포함)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Question q set q.answerCount = q.answerCount + :answerDelta, " +
+            "q.commentCount = q.commentCount + :commentDelta where q.id = :questionId")
+    int addCounts(@Param("questionId") Long questionId,
+                  @Param("answerDelta") long answerDelta,
+                  @Param("commentDelta") long commentDelta);
+
+    // 영구 삭제 대상 (QnaPurgeJob): 보존 기간이 지났고 남은 답변이 없는 질문
+    @Query("select q.id from Question q where q.isDeleted = true and q.deletedAt < :cutoff " +
+            "and not exists (select a.id from Answer a where a.question = q) order by q.id")
+    List<Long> findPurgeableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 재계산 대상 구간 (QuestionCounterRepairJob): afterId 이후 삭제되지 않은 질문 id를 chunk 크기만큼
+    @Query("select q.id from Question q where q.isDeleted = false and q.id > :afterId order by q.id")
+    List<Long> findLiveIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 재계산 (QuestionCounterRepairJob): id 구간 안에서 저장된 값이 실제 개수와 다른 행만 UPDATE
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Question q set " +
+            "q.answerCount = (select count(a) from Answer a where a.question.id = q.id and a.isDeleted = false), " +
+            "q.commentCount = (select count(c) from Comment c where c.answer.question.id = q.id and c.isDeleted = false) " +
+            "where q.isDeleted = false and q.id between :fromId and :toId " +
+            "and (q.answerCount <> (select count(a) from Answer a where a.question.id = q.id and a.isDeleted = false) " +
+            "or q.commentCount <> (select count(c) from Comment c where c.answer.question.id = q.id and c.isDeleted = false))")
+    int rebuildCounters(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
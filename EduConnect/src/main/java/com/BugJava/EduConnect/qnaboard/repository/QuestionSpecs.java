@@ -1,9 +1,12 @@
 package com.BugJava.EduConnect.qnaboard.repository;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionCursor;
 import com.BugJava.EduConnect.qnaboard.dto.QuestionSearchRequest;
 import com.BugJava.EduConnect.qnaboard.entity.Question;
 import org.springframework.data.jpa.domain.Specification;
 import com.BugJava.EduConnect.auth.enums.Track;
 
+import java.util.Collection;
+
 /**
  * @author rua
  */
@@ -30,6 +33,25 @@ public final class QuestionSpecs {
         };
     }
 
+    // id in (:ids) - 검색 색인이 고른 후보 조회
+    public static Specification<Question> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    // 커서 이후 항목 (createdAt DESC, id DESC 기준): createdAt < :createdAt or (createdAt = :createdAt and id < :id)
+    public static Specification<Question> after(QuestionCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.get("id"), cursor.id())));
+    }
+
+    // 커서 모드: 검색 조건 + 커서 위치 (cursor == null 이면 첫 페이지)
+    public static Specification<Question> buildSearch(QuestionSearchRequest req, QuestionCursor cursor) {
+        Specification<Question> spec = buildSearch(req);
+        return cursor != null ? spec.and(after(cursor)) : spec;
+    }
+
     // 단일 진입점: 검색 스펙 빌더
     public static Specification<Question> buildSearch(QuestionSearchRequest req) {
         Track track = (req != null ? req.getTrack() : null);
@@ -1,19 +1,19 @@
 package com.BugJava.EduConnect.qnaboard.service;
 
-import com.BugJava.EduConnect.auth.entity.Users;
-import com.BugJava.EduConnect.auth.exception.UserNotFoundException;
 import com.BugJava.EduConnect.auth.repository.UserRepository;
 import com.BugJava.EduConnect.qnaboard.dto.AnswerCreateRequest;
 import com.BugJava.EduConnect.qnaboard.dto.AnswerResponse;
 import com.BugJava.EduConnect.qnaboard.dto.AnswerUpdateRequest;
 import com.BugJava.EduConnect.qnaboard.entity.Answer;
-import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.event.QuestionChangedEvent;
 import com.BugJava.EduConnect.qnaboard.exception.AccessDeniedException;
 import com.BugJava.EduConnect.qnaboard.exception.AnswerNotFoundException;
 import com.BugJava.EduConnect.qnaboard.exception.QuestionNotFoundException;
 import com.BugJava.EduConnect.qnaboard.repository.AnswerRepository;
+import com.BugJava.EduConnect.qnaboard.repository.CommentRepository;
 import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,26 +26,31 @@ import java.util.stream.Collectors;
 public class AnswerService {
 
     private final AnswerRepository answerRepository;
+    private final CommentRepository commentRepository;
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 답변 등록 - SQL 2회 (질문 카운터 UPDATE + 답변 INSERT)
+     * - 질문 존재/삭제 여부는 카운터 UPDATE의 조건으로 확인 (영향 행 0 → 404, 트랜잭션 롤백)
+     * - 작성자/질문은 FK만 필요하므로 참조 프록시 사용 (SELECT 없음)
+     */
     @Transactional
     public void createAnswer(Long questionId, Long userId, AnswerCreateRequest req) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("로그인 사용자 없음"));
-
-        Question question = questionRepository.findById(questionId)
-                .filter(q -> !q.isDeleted())
-                .orElseThrow(() -> new QuestionNotFoundException(questionId.toString()));
+        if (questionRepository.incrementAnswerCountIfLive(questionId) == 0) {
+            throw new QuestionNotFoundException(questionId.toString());
+        }
 
         Answer answer = Answer.builder()
                 .content(req.getContent())
-                .user(user)
-                .question(question)
+                .user(userRepository.getReferenceById(userId))
+                .question(questionRepository.getReferenceById(questionId))
                 .isDeleted(false)
                 .build();
 
         answerRepository.save(answer);
+        eventPublisher.publishEvent(new QuestionChangedEvent(questionId));
     }
 
     @Transactional(readOnly = true)
@@ -69,10 +74,12 @@ public class AnswerService {
             throw new AccessDeniedException("본인의 답변만 수정할 수 있습니다.");
         }
 
-        answer.change(req.getContent());
-        answerRepository.save(answer);
+        answer.change(req.getContent()); // 변경 감지로 UPDATE
     }
 
+    /**
+     * 답변 삭제 - 답변/댓글 soft delete, SQL 4회 (SELECT + 답변 UPDATE + 댓글 벌크 UPDATE + 카운터 UPDATE)
+     */
     @Transactional
     public void deleteAnswer(Long answerId, Long userId) {
         Answer answer = answerRepository.findById(answerId)
@@ -83,7 +90,11 @@ public class AnswerService {
             throw new AccessDeniedException("본인의 답변만 삭제할 수 있습니다.");
         }
 
-        answer.softDelete();
-        answerRepository.save(answer);
+        answer.softDelete(); // 변경 감지 - 댓글 벌크 UPDATE 직전에 flush
+        Long questionId = answer.getQuestion().getId();
+        // 댓글은 로딩하지 않고 UPDATE 한 번으로 soft delete → 지워진 개수만큼 카운터 보정
+        int deletedComments = commentRepository.softDeleteByAnswerId(answerId, answer.getDeletedAt());
+        questionRepository.addCounts(questionId, -1, -deletedComments);
+        eventPublisher.publishEvent(new QuestionChangedEvent(questionId));
     }
 }
@@ -1,19 +1,19 @@
 package com.BugJava.EduConnect.qnaboard.service;
 
-import com.BugJava.EduConnect.auth.entity.Users;
-import com.BugJava.EduConnect.auth.exception.UserNotFoundException;
 import com.BugJava.EduConnect.auth.repository.UserRepository;
 import com.BugJava.EduConnect.qnaboard.dto.CommentCreateRequest;
 import com.BugJava.EduConnect.qnaboard.dto.CommentResponse;
 import com.BugJava.EduConnect.qnaboard.dto.CommentUpdateRequest;
-import com.BugJava.EduConnect.qnaboard.entity.Answer;
 import com.BugJava.EduConnect.qnaboard.entity.Comment;
+import com.BugJava.EduConnect.qnaboard.event.QuestionChangedEvent;
 import com.BugJava.EduConnect.qnaboard.exception.AccessDeniedException;
 import com.BugJava.EduConnect.qnaboard.exception.AnswerNotFoundException;
 import com.BugJava.EduConnect.qnaboard.exception.CommentNotFoundException;
 import com.BugJava.EduConnect.qnaboard.repository.AnswerRepository;
 import com.BugJava.EduConnect.qnaboard.repository.CommentRepository;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,24 +28,30 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final AnswerRepository answerRepository;
     private final UserRepository userRepository;
-
+    private final QuestionRepository questionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 댓글 등록 - SQL 3회 (답변의 질문 id 조회 + 댓글 INSERT + 질문 카운터 UPDATE)
+     * - 질문 id 조회가 답변 존재/삭제 확인을 겸한다. (상세 캐시 무효화에 질문 id 필요)
+     * - 작성자/답변은 참조 프록시 사용 (SELECT 없음)
+     */
     @Transactional
     public void createComment(Long answerId, Long userId, CommentCreateRequest req) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("로그인 사용자 없음"));
-
-        Answer answer = answerRepository.findById(answerId)
-                .filter(a -> !a.isDeleted())
+        Long questionId = answerRepository.findLiveQuestionId(answerId)
                 .orElseThrow(() -> new AnswerNotFoundException(answerId.toString()));
 
+        questionRepository.addCommentCount(questionId, 1);
+
         Comment comment = Comment.builder()
                 .content(req.getContent())
-                .user(user)
-                .answer(answer)
+                .user(userRepository.getReferenceById(userId))
+                .answer(answerRepository.getReferenceById(answerId))
                 .isDeleted(false)
                 .build();
 
         commentRepository.save(comment);
+        eventPublisher.publishEvent(new QuestionChangedEvent(questionId));
     }
 
     @Transactional(readOnly = true)
@@ -69,13 +75,12 @@ public class CommentService {
             throw new AccessDeniedException("본인의 댓글만 수정할 수 있습니다.");
         }
 
-        comment.change(req.getContent());
-        commentRepository.save(comment);
+        comment.change(req.getContent()); // 변경 감지로 UPDATE
     }
 
     @Transactional
     public void deleteComment(Long commentId, Long userId) {
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findWithAnswerById(commentId)
                 .filter(c -> !c.isDeleted())
                 .orElseThrow(() -> new CommentNotFoundException(commentId.toString()));
 
@@ -83,7 +88,9 @@ public class CommentService {
             throw new AccessDeniedException("본인의 댓글만 삭제할 수 있습니다.");
         }
 
-        comment.softDelete();
-        commentRepository.save(comment);
+        Long questionId = comment.getAnswer().getQuestion().getId(); // 답변 join으로 이미 로딩된 FK
+        comment.softDelete(); // 변경 감지 - 카운터 UPDATE 직전에 flush
+        questionRepository.addCommentCount(questionId, -1);
+        eventPublisher.publishEvent(new QuestionChangedEvent(questionId));
     }
 }
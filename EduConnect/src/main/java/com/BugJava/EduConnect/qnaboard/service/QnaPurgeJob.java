@@ -0,0 +1,85 @@
+package com.BugJava.EduConnect.qnaboard.service;
+
+import com.BugJava.EduConnect.qnaboard.repository.AnswerRepository;
+import com.BugJava.EduConnect.qnaboard.repository.CommentRepository;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * soft delete 후 보존 기간(qna.purge.retention-days)이 지난 행을 영구 삭제
+ * - 댓글 → 답변 → 질문 순 (FK). 아직 살아 있는 자식이 남은 부모는 건너뛴다.
+ * - chunk-size 단위로 id를 골라 IN 삭제 후 바로 커밋 → 한 트랜잭션이 잡는 락/undo 크기가 작게 유지된다.
+ * @author rua
+ */
+@Component
+@Slf4j
+public class QnaPurgeJob {
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public QnaPurgeJob(QuestionRepository questionRepository,
+                       AnswerRepository answerRepository,
+                       CommentRepository commentRepository,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${qna.purge.retention-days:30}") int retentionDays,
+                       @Value("${qna.purge.chunk-size:500}") int chunkSize) {
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    public record Result(long comments, long answers, long questions) {
+    }
+
+    @Scheduled(cron = "${qna.purge.cron:0 0 5 * * *}")
+    public Result purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Result result = new Result(
+                purge(cutoff, commentRepository::findPurgeableIds, commentRepository),
+                purge(cutoff, answerRepository::findPurgeableIds, answerRepository),
+                purge(cutoff, questionRepository::findPurgeableIds, questionRepository));
+        log.info("QnA purge (deleted before {}): {} comments, {} answers, {} questions",
+                cutoff, result.comments(), result.answers(), result.questions());
+        return result;
+    }
+
+    // 대상 id 조회 + IN 삭제를 chunk 하나의 트랜잭션으로, 대상이 없을 때까지 반복
+    private long purge(LocalDateTime cutoff,
+                       BiFunction<LocalDateTime, Pageable, List<Long>> findIds,
+                       JpaRepository<?, Long> repository) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = findIds.apply(cutoff, chunk);
+                if (!ids.isEmpty()) {
+                    repository.deleteAllByIdInBatch(ids);
+                }
+                return ids.size();
+            });
+            total += deleted;
+            if (deleted < chunkSize) {
+                return total;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.BugJava.EduConnect.qnaboard.service;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.exception.UserNotFoundException;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionBulkImportResponse;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionCreateRequest;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.exception.AccessDeniedException;
+import com.BugJava.EduConnect.qnaboard.exception.InvalidBulkImportException;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 질문 일괄 등록 (강사/관리자 - 기수 시작 시 과정 Q&A 시드 등)
+ * - 요청 본문(질문 객체 JSON 배열)을 스트리밍으로 한 원소씩 읽는다. → 전체 배열을 메모리에 올리지 않음
+ * - chunk-size개씩 트랜잭션 하나로 저장: 시퀀스 id(pooled) + hibernate.jdbc.batch_size로 INSERT가 배치 전송된다.
+ * - 검증에 실패한 원소는 건너뛰고 인덱스를 응답에 담는다. JSON 형식 오류면 400 (이미 커밋된 청크는 유지)
+ * @author rua
+ */
+@Service
+@Slf4j
+public class QuestionBulkImportService {
+
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private final QuestionRepository questionRepository;
+    private final UserRepository userRepository;
+    private final QuestionCountCache questionCountCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public QuestionBulkImportService(QuestionRepository questionRepository,
+                                     UserRepository userRepository,
+                                     QuestionCountCache questionCountCache,
+                                     TransactionTemplate transactionTemplate,
+                                     ObjectMapper objectMapper,
+                                     Validator validator,
+                                     @Value("${qna.bulk-import.chunk-size:500}") int chunkSize) {
+        this.questionRepository = questionRepository;
+        this.userRepository = userRepository;
+        this.questionCountCache = questionCountCache;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    public QuestionBulkImportResponse importQuestions(Long userId, InputStream body) {
+        Users user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("로그인 사용자 없음"));
+        if (!(user.hasRole(Role.INSTRUCTOR) || user.hasRole(Role.ADMIN))) {
+            throw new AccessDeniedException("강사만 질문을 일괄 등록할 수 있습니다.");
+        }
+
+        int imported = 0;
+        int chunks = 0;
+        int index = 0;
+        List<Integer> rejected = new ArrayList<>();
+        int rejectedCount = 0;
+        List<QuestionCreateRequest> chunk = new ArrayList<>(chunkSize);
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidBulkImportException("요청 본문은 질문 객체의 JSON 배열이어야 합니다.");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                QuestionCreateRequest req = objectMapper.readValue(parser, QuestionCreateRequest.class);
+                if (validator.validate(req).isEmpty()) {
+                    chunk.add(req);
+                } else {
+                    rejectedCount++;
+                    if (rejected.size() < MAX_REPORTED_REJECTIONS) {
+                        rejected.add(index);
+                    }
+                }
+                index++;
+
+                if (chunk.size() == chunkSize) {
+                    imported += insertChunk(userId, chunk);
+                    chunks++;
+                    chunk.clear();
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new InvalidBulkImportException("배열 원소 " + index + "번이 질문 객체가 아닙니다. (앞선 " + imported + "건은 등록됨)");
+            }
+            if (!chunk.isEmpty()) {
+                imported += insertChunk(userId, chunk);
+                chunks++;
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidBulkImportException("JSON 형식 오류 (원소 " + index + "번, 앞선 " + imported + "건은 등록됨): "
+                    + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new InvalidBulkImportException("요청 본문을 읽을 수 없습니다: " + e.getMessage());
+        }
+
+        log.info("Bulk question import by user {}: {} imported, {} rejected, {} chunks", userId, imported, rejectedCount, chunks);
+        return QuestionBulkImportResponse.builder()
+                .imported(imported)
+                .rejected(rejectedCount)
+                .rejectedIndexes(rejected)
+                .chunks(chunks)
+                .build();
+    }
+
+    // 청크 하나 = 트랜잭션 하나 (커밋 시 flush → 배치 INSERT)
+    private int insertChunk(Long userId, List<QuestionCreateRequest> chunk) {
+        List<Question> questions = new ArrayList<>(chunk.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            Users writer = userRepository.getReferenceById(userId);
+            for (QuestionCreateRequest req : chunk) {
+                questions.add(Question.builder()
+                        .title(req.getTitle())
+                        .content(req.getContent())
+                        .track(req.getTrack())
+                        .user(writer)
+                        .isDeleted(false)
+                        .build());
+            }
+            questionRepository.saveAll(questions);
+        });
+        // 트랙이 섞여 있으므로 전체 무효화
+        questionCountCache.invalidateAll();
+        return questions.size();
+    }
+}
@@ -0,0 +1,75 @@
+package com.BugJava.EduConnect.qnaboard.service;
+
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionSearchRequest;
+import com.BugJava.EduConnect.qnaboard.event.QuestionCountChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * 질문 목록 총 개수(근사치) 캐시
+ * - 키: (track, 정규화된 keyword) → 같은 조건의 count(*)는 TTL 동안 한 번만 실행
+ * - 질문 등록/삭제/수정 시 QuestionCountChangedEvent로 커밋 이후(AFTER_COMMIT) 해당 트랙(및 트랙 무관) 항목을 비운다.
+ *   (트랜잭션 안에서 비우면 커밋 전 다른 요청이 예전 개수로 다시 채울 수 있음) 그 밖의 경로(직접 저장 등)는 TTL로 보정
+ * - 메트릭: cache.gets{cache=qna.question-counts,result=hit|miss}, cache.size
+ * @author rua
+ */
+@Component
+public class QuestionCountCache {
+
+    private static final String CACHE_NAME = "qna.question-counts";
+
+    private final Cache<CountKey, Long> cache;
+
+    public QuestionCountCache(@Value("${qna.count-cache.ttl-seconds:60}") long ttlSeconds,
+                              @Value("${qna.count-cache.max-size:1000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public long get(QuestionSearchRequest req, LongSupplier counter) {
+        return cache.get(CountKey.of(req), key -> counter.getAsLong());
+    }
+
+    // 커밋 이후 무효화 (트랜잭션 밖에서 발행된 경우 즉시)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void invalidate(QuestionCountChangedEvent event) {
+        invalidate(event.track());
+    }
+
+    // 해당 트랙 조건 + 트랙 무관(전체) 조건의 개수가 바뀜
+    public void invalidate(Track track) {
+        cache.asMap().keySet().removeIf(key -> key.track() == null || key.track() == track);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // 검색어는 titleContains와 같은 규칙(trim + 소문자)으로 정규화 → "Spring"/" spring " 같은 키
+    record CountKey(Track track, String keyword) {
+        static CountKey of(QuestionSearchRequest req) {
+            if (req == null) {
+                return new CountKey(null, null);
+            }
+            String keyword = req.getKeyword();
+            return new CountKey(req.getTrack(),
+                    keyword == null || keyword.isBlank() ? null : keyword.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.BugJava.EduConnect.qnaboard.service;
+
+import com.BugJava.EduConnect.qnaboard.event.QuestionChangedEvent;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Question.answerCount / commentCount 재계산
+ * - 평소에는 AnswerService/CommentService의 원자적 증감으로 유지되고,
+ *   서비스를 거치지 않은 변경(직접 SQL, 장애로 인한 누락 등)은 이 작업이 실제 개수로 되돌린다.
+ * - 삭제되지 않은 질문을 id 순 chunk(qna.counter-repair.chunk-size) 구간으로 나눠 구간마다 커밋
+ *   → QnaPurgeJob처럼 한 트랜잭션이 잡는 락이 작게 유지되고, 값이 다른 행만 UPDATE 한다.
+ * @author rua
+ */
+@Component
+@Slf4j
+public class QuestionCounterRepairJob {
+
+    private final QuestionRepository questionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public QuestionCounterRepairJob(QuestionRepository questionRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${qna.counter-repair.chunk-size:500}") int chunkSize) {
+        this.questionRepository = questionRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    // chunk 하나의 결과: 구간 크기, 마지막 id, 실제로 바뀐 행 수
+    private record Chunk(int size, long lastId, int updated) {
+    }
+
+    @Scheduled(cron = "${qna.counter-repair.cron:0 30 4 * * *}")
+    public int repair() {
+        Pageable page = PageRequest.of(0, chunkSize);
+        long afterId = 0L;
+        int updated = 0;
+        while (true) {
+            final long from = afterId;
+            // 구간 id 조회 + 구간 UPDATE를 chunk 하나의 트랜잭션으로
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = questionRepository.findLiveIdsAfter(from, page);
+                if (ids.isEmpty()) {
+                    return new Chunk(0, from, 0);
+                }
+                long lastId = ids.get(ids.size() - 1);
+                return new Chunk(ids.size(), lastId, questionRepository.rebuildCounters(ids.get(0), lastId));
+            });
+            updated += chunk.updated();
+            afterId = chunk.lastId();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        log.info("Question counters rebuilt: {} rows changed", updated);
+        // 상세 캐시의 카운터도 전부 무효화 (트랜잭션 밖이면 즉시, 호출 측 트랜잭션 안이면 커밋 이후)
+        eventPublisher.publishEvent(QuestionChangedEvent.all());
+        return updated;
+    }
+}
@@ -0,0 +1,115 @@
+package com.BugJava.EduConnect.qnaboard.service;
+
+import com.BugJava.EduConnect.qnaboard.dto.QuestionResponse;
+import com.BugJava.EduConnect.qnaboard.event.QuestionChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 질문 상세(QuestionResponse) read-through 캐시
+ * - 최대 개수 + 쓰기 후 TTL로 제거, 질문 단위 무효화
+ * - 무효화: QuestionChangedEvent를 커밋 이후(AFTER_COMMIT)에 처리 → 롤백된 변경으로 캐시를 비우지 않음
+ * - 변경한 트랜잭션 안에서는 해당 질문을 캐시를 거치지 않고 읽는다. (커밋 전 값이 캐시에 들어가지 않도록)
+ * - 메트릭: cache.gets{cache=qna.question-detail,result=hit|miss}, cache.evictions, qna.question-detail.hit.ratio
+ * @author rua
+ */
+@Component
+public class QuestionDetailCache {
+
+    private static final String CACHE_NAME = "qna.question-detail";
+    // 변경 집합에서 "전체 변경"을 나타내는 표시 (PK는 1부터)
+    private static final Long ALL = 0L;
+
+    private final Cache<Long, QuestionResponse> cache;
+
+    public QuestionDetailCache(@Value("${qna.detail-cache.max-size:10000}") long maxSize,
+                               @Value("${qna.detail-cache.ttl-seconds:300}") long ttlSeconds,
+                               MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("qna.question-detail.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Question detail cache hit ratio since startup")
+                .register(meterRegistry);
+    }
+
+    public QuestionResponse get(Long questionId, Supplier<QuestionResponse> loader) {
+        if (changedInCurrentTransaction(questionId)) {
+            return loader.get();
+        }
+        return cache.get(questionId, id -> loader.get());
+    }
+
+    // 변경 트랜잭션 안: 이후 읽기는 캐시 우회
+    @EventListener
+    public void markChanged(QuestionChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> changed = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (changed == null) {
+            changed = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, changed);
+            TransactionSynchronizationManager.registerSynchronization(new ChangedSetSynchronization(changed));
+        }
+        changed.add(event.isAll() ? ALL : event.questionId());
+    }
+
+    // 커밋 이후 무효화 (트랜잭션 밖에서 발행된 경우 즉시)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void invalidate(QuestionChangedEvent event) {
+        if (event.isAll()) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(event.questionId());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean changedInCurrentTransaction(Long questionId) {
+        Set<Long> changed = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        return changed != null && (changed.contains(questionId) || changed.contains(ALL));
+    }
+
+    private class ChangedSetSynchronization implements TransactionSynchronization {
+        private final Set<Long> changed;
+
+        ChangedSetSynchronization(Set<Long> changed) {
+            this.changed = changed;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(QuestionDetailCache.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(QuestionDetailCache.this, changed);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(QuestionDetailCache.this);
+        }
+    }
+}
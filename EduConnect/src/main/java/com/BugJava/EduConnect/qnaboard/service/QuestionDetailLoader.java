@@ -0,0 +1,40 @@
+package com.BugJava.EduConnect.qnaboard.service;
+
+import com.BugJava.EduConnect.qnaboard.dto.QuestionResponse;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.exception.QuestionNotFoundException;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 질문 상세 캐시 miss 시 로딩 (엔티티 + 작성자 fetch join)
+ * - 트랜잭션(커넥션)은 miss일 때만 연다. 캐시 hit은 QuestionService에서 트랜잭션 없이 반환
+ * @author rua
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionDetailLoader {
+
+    private final QuestionRepository questionRepository;
+
+    @Transactional(readOnly = true)
+    public QuestionResponse load(Long id) {
+        Question q = questionRepository.findDetailById(id)
+                .filter(qq -> !qq.isDeleted())
+                .orElseThrow(() -> new QuestionNotFoundException(id.toString()));
+
+        return QuestionResponse.builder()
+                .id(q.getId())
+                .title(q.getTitle())
+                .content(q.getContent())
+                .writerName(q.getUser().getName())
+                .startTrack(q.getUser().getTrack().name())
+                .endTrack(q.getTrack().name())
+                .createdAt(q.getCreatedAt())
+                .answerCount(q.getAnswerCount())
+                .commentCount(q.getCommentCount())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.BugJava.EduConnect.qnaboard.service;
+
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Question 엔티티 변경을 검색 색인에 반영하는 JPA 엔티티 리스너
+ * - 저장/수정 시 재색인, soft delete/삭제 시 제거 (서비스·리포지토리 어느 경로로 저장하든 동일)
+ * - 공유 색인에는 커밋 후에만 반영되고, 그 전에는 같은 트랜잭션의 검색에서만 보인다. (QuestionSearchIndex.stage)
+ * - persist는 flush 전에도 같은 트랜잭션 검색에 보이도록 @PrePersist에서 엔티티를 기록한다.
+ *   (flush되지 않은 수정은 flush/커밋 시점의 @PostUpdate부터 반영)
+ * - Hibernate가 Spring 빈 컨테이너로 생성하므로 생성자 주입 가능
+ * @author rua
+ */
+@RequiredArgsConstructor
+public class QuestionIndexListener {
+
+    private final QuestionSearchIndex questionSearchIndex;
+
+    @PrePersist
+    @PostPersist
+    @PostUpdate
+    public void onSave(Question question) {
+        questionSearchIndex.stage(question);
+    }
+
+    @PostRemove
+    public void onRemove(Question question) {
+        questionSearchIndex.stageRemoval(question.getId());
+    }
+}
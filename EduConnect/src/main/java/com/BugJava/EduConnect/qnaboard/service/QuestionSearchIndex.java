@@ -0,0 +1,345 @@
+package com.BugJava.EduConnect.qnaboard.service;
+
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.common.util.BigramTokenizer;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 질문 제목/본문 메모리 역색인 (문자 bigram)
+ * - bigram → (질문 id → 제목/본문 등장 횟수) posting
+ * - 검색: 검색어 bigram 중 posting이 가장 짧은 것부터 후보를 뽑고 나머지 bigram으로 거른다.
+ *   → 비용은 테이블 크기가 아니라 가장 드문 bigram의 문서 수에 비례
+ * - 모든 bigram이 제목에 있거나 모두 본문에 있는 문서가 후보, 정규화한 원문에 검색어가 그대로 포함돼야 매칭
+ * - 관련도: bigram별 idf × (제목 가중치 × 제목 빈도 + 본문 빈도)
+ * - 변경 반영: QuestionIndexListener가 엔티티 저장/삭제를 stage → 트랜잭션 커밋 후(afterCommit) 공유 색인에 반영
+ *   커밋 전에는 같은 트랜잭션의 검색에서만 보인다. (다른 트랜잭션은 커밋된 상태만 봄, 롤백 시 되돌릴 것 없음)
+ * - 기동 시 적재: QuestionSearchIndexLoader
+ * @author rua
+ */
+@Component
+public class QuestionSearchIndex {
+
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final int MAX_CONTENT_FREQ = 5; // 본문에 같은 단어를 반복해 점수를 올리는 것 방지
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Posting>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    // 적재 중 커밋된 삭제 → 적재 배치가 예전 값으로 되살리지 않도록 (롤백은 색인을 건드리지 않으므로 여기 오지 않음)
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+    private volatile boolean ready;
+
+    public QuestionSearchIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("qna.search.index.documents", this, QuestionSearchIndex::size)
+                .description("Questions in the in-memory search index")
+                .register(meterRegistry);
+    }
+
+    record Posting(int titleFreq, int contentFreq) {
+    }
+
+    /** 색인된 질문 한 건 (불변) */
+    public static final class Document {
+        private final long id;
+        private final Track track;
+        private final LocalDateTime createdAt;
+        private final Map<String, Posting> terms;
+        // 정규화한 원문 - bigram 후보가 실제로 검색어를 포함하는지 확인용
+        private final String title;
+        private final String content;
+
+        private Document(long id, Track track, LocalDateTime createdAt, Map<String, Posting> terms,
+                         String title, String content) {
+            this.id = id;
+            this.track = track;
+            this.createdAt = createdAt;
+            this.terms = terms;
+            this.title = title;
+            this.content = content;
+        }
+
+        public long id() {
+            return id;
+        }
+    }
+
+    public record Hit(long id, double score, LocalDateTime createdAt) {
+        public static final Comparator<Hit> LATEST_FIRST = Comparator
+                .comparing(Hit::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+                .thenComparingLong(Hit::id)
+                .reversed();
+        public static final Comparator<Hit> MOST_RELEVANT_FIRST = Comparator
+                .comparingDouble(Hit::score).reversed()
+                .thenComparing(LATEST_FIRST);
+    }
+
+    public static Document document(Question q) {
+        return document(q.getId(), q.getTitle(), q.getContent(), q.getTrack(), q.getCreatedAt());
+    }
+
+    public static Document document(long id, String title, String content, Track track, LocalDateTime createdAt) {
+        Map<String, Integer> titleFreq = BigramTokenizer.frequencies(title);
+        Map<String, Integer> contentFreq = BigramTokenizer.frequencies(content);
+        Map<String, Posting> terms = new HashMap<>(titleFreq.size() + contentFreq.size());
+        titleFreq.forEach((term, freq) -> terms.put(term, new Posting(freq, contentFreq.getOrDefault(term, 0))));
+        contentFreq.forEach((term, freq) -> terms.putIfAbsent(term, new Posting(0, freq)));
+        return new Document(id, track, createdAt, terms,
+                BigramTokenizer.normalize(title), BigramTokenizer.normalize(content));
+    }
+
+    /** 추가/교체 - 이전 문서(없으면 null) 반환 */
+    public Document put(Document doc) {
+        lock.writeLock().lock();
+        try {
+            Document previous = removeInternal(doc.id);
+            addInternal(doc);
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 제거 - 이전 문서(없으면 null) 반환 */
+    public Document remove(long id) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                removedWhileLoading.add(id);
+            }
+            return removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장/수정된 질문 반영 예약
+     * - 트랜잭션 안: 엔티티 참조만 기록하고 문서는 검색/커밋 시점의 상태로 만든다. (persist 직후엔 아직 값이 다 채워지지 않았을 수 있음)
+     * - 트랜잭션 밖: 즉시 반영
+     */
+    public void stage(Question question) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges().saved.add(question);
+        } else if (question.getId() != null) {
+            apply(question.getId(), question.isDeleted() ? null : document(question));
+        }
+    }
+
+    /** 삭제된 질문 반영 예약 (stage와 같은 규칙) */
+    public void stageRemoval(long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges().removed.add(id);
+        } else {
+            remove(id);
+        }
+    }
+
+    /** 기동 시 적재 - 적재 중 이미 반영된 변경(저장/삭제)이 우선 */
+    public void load(Document doc) {
+        lock.writeLock().lock();
+        try {
+            if (!documents.containsKey(doc.id) && !removedWhileLoading.contains(doc.id)) {
+                addInternal(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어(+ 트랙)에 매칭되는 질문 (정렬 전)
+     * - 색인 적재 전이거나 정규화한 검색어가 두 글자 미만이면 null → 호출 측에서 DB 검색으로 대체
+     */
+    public List<Hit> search(String keyword, Track track) {
+        Set<String> terms = BigramTokenizer.terms(keyword);
+        if (!ready || terms.isEmpty()) {
+            return null;
+        }
+        String phrase = BigramTokenizer.normalize(keyword);
+        // 현재 트랜잭션에서 저장/삭제했지만 아직 커밋되지 않은 질문 (id → 문서, 삭제는 null) - 커밋된 색인보다 우선
+        Map<Long, Document> pending = pendingInCurrentTransaction();
+
+        lock.readLock().lock();
+        try {
+            List<String> ordered = new ArrayList<>(terms);
+            ordered.sort(Comparator.comparingInt(this::postingSize));
+
+            double[] idf = new double[ordered.size()];
+            for (int i = 0; i < idf.length; i++) {
+                idf[i] = Math.log(1.0 + (double) documents.size() / Math.max(1, postingSize(ordered.get(i))));
+            }
+
+            List<Hit> hits = new ArrayList<>();
+            // 가장 짧은 posting이 후보 (없으면 커밋된 문서 중 매칭 없음)
+            Map<Long, Posting> candidates = postings.getOrDefault(ordered.get(0), Map.of());
+            for (Long id : candidates.keySet()) {
+                if (!pending.containsKey(id)) {
+                    addIfMatches(hits, documents.get(id), phrase, ordered, idf, track);
+                }
+            }
+            for (Document doc : pending.values()) {
+                if (doc != null) {
+                    addIfMatches(hits, doc, phrase, ordered, idf, track);
+                }
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void addIfMatches(List<Hit> hits, Document doc, String phrase,
+                                     List<String> terms, double[] idf, Track track) {
+        if (track != null && doc.track != track) {
+            return;
+        }
+        boolean inTitle = true;
+        boolean inContent = true;
+        double score = 0;
+        for (int i = 0; i < terms.size(); i++) {
+            Posting p = doc.terms.get(terms.get(i));
+            if (p == null) {
+                return;
+            }
+            inTitle &= p.titleFreq() > 0;
+            inContent &= p.contentFreq() > 0;
+            if (!inTitle && !inContent) {
+                return;
+            }
+            score += idf[i] * (TITLE_WEIGHT * p.titleFreq() + Math.min(p.contentFreq(), MAX_CONTENT_FREQ));
+        }
+        // bigram을 모두 가져도 이어져 있지 않을 수 있음 ("abab" vs "ab ba") → 원문에 검색어가 그대로 있어야 매칭
+        inTitle &= doc.title.contains(phrase);
+        inContent &= doc.content.contains(phrase);
+        if (!inTitle && !inContent) {
+            return;
+        }
+        hits.add(new Hit(doc.id, score, doc.createdAt));
+    }
+
+    private int postingSize(String term) {
+        Map<Long, Posting> list = postings.get(term);
+        return list == null ? 0 : list.size();
+    }
+
+    private void apply(long id, Document doc) {
+        if (doc == null) {
+            remove(id);
+        } else {
+            put(doc);
+        }
+    }
+
+    private Map<Long, Document> pendingInCurrentTransaction() {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        return pending == null ? Map.of() : pending.snapshot();
+    }
+
+    private PendingChanges pendingChanges() {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    // 트랜잭션 하나에서 건드린 질문 - 커밋되면 색인에 반영, 롤백되면 버린다.
+    private final class PendingChanges implements TransactionSynchronization {
+        private final Set<Question> saved = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Set<Long> removed = new LinkedHashSet<>();
+
+        // 현재 엔티티 상태 기준 (soft delete된 질문은 null = 제거)
+        Map<Long, Document> snapshot() {
+            Map<Long, Document> changes = new LinkedHashMap<>();
+            for (Question question : saved) {
+                if (question.getId() != null) {
+                    changes.put(question.getId(), question.isDeleted() ? null : document(question));
+                }
+            }
+            removed.forEach(id -> changes.put(id, null));
+            return changes;
+        }
+
+        // REQUIRES_NEW 등으로 트랜잭션이 중단/재개될 때 기록도 함께 분리
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(QuestionSearchIndex.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(QuestionSearchIndex.this, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            snapshot().forEach(QuestionSearchIndex.this::apply);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(QuestionSearchIndex.this);
+        }
+    }
+
+    private void addInternal(Document doc) {
+        documents.put(doc.id, doc);
+        doc.terms.forEach((term, posting) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(doc.id, posting));
+    }
+
+    private Document removeInternal(long id) {
+        Document previous = documents.remove(id);
+        if (previous != null) {
+            for (String term : previous.terms.keySet()) {
+                Map<Long, Posting> list = postings.get(term);
+                if (list != null) {
+                    list.remove(id);
+                    if (list.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+        return previous;
+    }
+}
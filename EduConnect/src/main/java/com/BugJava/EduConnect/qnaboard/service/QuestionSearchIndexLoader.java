@@ -0,0 +1,51 @@
+package com.BugJava.EduConnect.qnaboard.service;
+
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 기동 시 삭제되지 않은 질문 전체를 id 순 배치로 읽어 검색 색인 적재
+ * - 적재가 끝나기 전 검색은 DB(LIKE) 검색으로 처리된다.
+ * @author rua
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuestionSearchIndexLoader {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final QuestionRepository questionRepository;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long afterId = 0L;
+        int loaded = 0;
+        while (true) {
+            final long from = afterId;
+            // 배치마다 트랜잭션(영속성 컨텍스트)을 새로 → 전체 본문을 한꺼번에 들고 있지 않음
+            List<QuestionSearchIndex.Document> batch = transactionTemplate.execute(status ->
+                    questionRepository.findIndexBatch(from, PageRequest.of(0, BATCH_SIZE)).stream()
+                            .map(QuestionSearchIndex::document)
+                            .toList());
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            batch.forEach(questionSearchIndex::load);
+            loaded += batch.size();
+            afterId = batch.get(batch.size() - 1).id();
+        }
+        questionSearchIndex.markReady();
+        log.info("Question search index loaded: {} questions", loaded);
+    }
+}
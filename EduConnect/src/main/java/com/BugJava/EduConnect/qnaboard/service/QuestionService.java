@@ -1,69 +1,171 @@
 package com.BugJava.EduConnect.qnaboard.service;
 
 import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Track;
 import com.BugJava.EduConnect.auth.exception.UserNotFoundException;
 import com.BugJava.EduConnect.auth.repository.UserRepository;
 import com.BugJava.EduConnect.qnaboard.dto.*;
 import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.event.QuestionChangedEvent;
+import com.BugJava.EduConnect.qnaboard.event.QuestionCountChangedEvent;
 import com.BugJava.EduConnect.qnaboard.exception.AccessDeniedException;
 import com.BugJava.EduConnect.qnaboard.exception.QuestionNotFoundException;
 import com.BugJava.EduConnect.qnaboard.repository.AnswerRepository;
 import com.BugJava.EduConnect.qnaboard.repository.CommentRepository;
 import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
 import com.BugJava.EduConnect.qnaboard.repository.QuestionSpecs;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * @author rua
  */
 @Service
 @RequiredArgsConstructor
 public class QuestionService {
+    // 커서 모드 한 페이지 최대 크기
+    private static final int MAX_SCROLL_SIZE = 100;
+    // 검색 관련도 정렬 (sort=relevance)
+    private static final String RELEVANCE = "relevance";
+
     final private QuestionRepository questionRepository;
     final private AnswerRepository answerRepository;
     final private CommentRepository commentRepository;
     final private UserRepository userRepository;
+    final private QuestionCountCache questionCountCache;
+    final private QuestionSearchIndex questionSearchIndex;
+    final private QuestionDetailCache questionDetailCache;
+    final private QuestionDetailLoader questionDetailLoader;
+    final private ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Page<QuestionAllResponse> getAllQuestions(Pageable pageable) {
         // 전체 목록도 동일 빌더 사용: req == null이면 필터 생략
-        return questionRepository.findAll(QuestionSpecs.buildSearch(null), pageable)
-                .map(QuestionAllResponse::from);
+        return questionRepository.findPage(QuestionSpecs.buildSearch(null), pageable);
     }
 
+    /**
+     * 검색 - 키워드가 있으면 메모리 역색인(QuestionSearchIndex)에서 매칭 id를 고르고 해당 페이지 행만 DB에서 조회
+     * - 정렬: createdAt(기본) 또는 relevance(관련도, sort=relevance)
+     * - 색인 적재 전, 두 글자 미만 검색어, 그 밖의 정렬 기준은 기존 DB(LIKE) 검색
+     */
     @Transactional(readOnly=true)
     public Page<QuestionAllResponse> getSearchQuestions(QuestionSearchRequest req, Pageable pageable) {
-        return questionRepository.findAll(QuestionSpecs.buildSearch(req), pageable)
-                .map(QuestionAllResponse::from);
+        boolean byRelevance = pageable.getSort().getOrderFor(RELEVANCE) != null;
+        if (req != null && isIndexSortable(pageable.getSort())) {
+            List<QuestionSearchIndex.Hit> hits = questionSearchIndex.search(req.getKeyword(), req.getTrack());
+            if (hits != null) {
+                return pageOfHits(hits, pageable, byRelevance);
+            }
+        }
+        // DB 검색에는 관련도 점수가 없으므로 최신순으로
+        Pageable dbPageable = byRelevance
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"))
+                : pageable;
+        return questionRepository.findPage(QuestionSpecs.buildSearch(req), dbPageable);
     }
 
+    private static boolean isIndexSortable(Sort sort) {
+        return sort.stream().allMatch(o -> o.getProperty().equals("createdAt") || o.getProperty().equals(RELEVANCE));
+    }
+
+    private Page<QuestionAllResponse> pageOfHits(List<QuestionSearchIndex.Hit> hits, Pageable pageable, boolean byRelevance) {
+        Comparator<QuestionSearchIndex.Hit> order = byRelevance
+                ? QuestionSearchIndex.Hit.MOST_RELEVANT_FIRST
+                : QuestionSearchIndex.Hit.LATEST_FIRST;
+        Sort.Order createdAt = pageable.getSort().getOrderFor("createdAt");
+        if (!byRelevance && createdAt != null && createdAt.isAscending()) {
+            order = order.reversed();
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> pageIds = hits.stream()
+                .sorted(order)
+                .skip(from)
+                .limit(to - from)
+                .map(QuestionSearchIndex.Hit::id)
+                .toList();
+
+        // 색인 순서대로 재배열 (색인 반영 이후 지워진 행 등 DB에서 보이지 않는 행은 빠짐)
+        Map<Long, QuestionAllResponse> rows = questionRepository.findResponsesByIds(pageIds).stream()
+                .collect(Collectors.toMap(QuestionAllResponse::getId, Function.identity()));
+        List<QuestionAllResponse> content = pageIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    /**
+     * Slice 모드 목록/검색 (req == null이면 전체)
+     * - 목록 쿼리만 실행하고 size + 1건으로 hasNext 판단 → Page 모드의 count(*) 쿼리(키워드 검색 시 LIKE 재스캔) 없음
+     * - withTotal=true면 (track, keyword)별로 캐시된 근사 총 개수를 함께 반환
+     */
     @Transactional(readOnly = true)
-    public QuestionResponse getQuestionDetail(Long id) {
-        Question q = questionRepository.findById(id)
-                .filter(qq -> !qq.isDeleted())
-                .orElseThrow(() -> new QuestionNotFoundException(id.toString()));
-
-        long aCount = answerRepository.countByQuestionIdAndIsDeletedFalse(id);
-        long cCount = commentRepository.countByQuestionId(id);
-
-        return QuestionResponse.builder()
-                .id(q.getId())
-                .title(q.getTitle())
-                .content(q.getContent())
-                .writerName(q.getUser().getName())
-                .startTrack(q.getUser().getTrack().name())
-                .endTrack(q.getTrack().name())
-                .createdAt(q.getCreatedAt())
-                .answerCount(aCount)
-                .commentCount(cCount)
+    public QuestionSliceResponse sliceQuestions(QuestionSearchRequest req, Pageable pageable, boolean withTotal) {
+        Specification<Question> spec = QuestionSpecs.buildSearch(req);
+        Slice<QuestionAllResponse> slice = questionRepository.findSlice(spec, pageable);
+
+        Long approximateTotal = withTotal
+                ? questionCountCache.get(req, () -> questionRepository.count(spec))
+                : null;
+
+        return QuestionSliceResponse.builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getNumberOfElements())
+                .hasNext(slice.hasNext())
+                .approximateTotal(approximateTotal)
                 .build();
     }
 
+    /**
+     * 커서(keyset) 기반 목록/검색
+     * - OFFSET 대신 마지막 항목 (createdAt, id) 이후를 seek → 몇 번째 페이지든 첫 페이지와 같은 비용
+     * - size + 1건을 읽어 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+     */
+    @Transactional(readOnly = true)
+    public QuestionScrollResponse scrollQuestions(QuestionSearchRequest req, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        List<QuestionAllResponse> rows = questionRepository
+                .findLatest(QuestionSpecs.buildSearch(req, QuestionCursor.decode(cursor)), limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<QuestionAllResponse> content = hasNext ? rows.subList(0, limit) : rows;
+        return QuestionScrollResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? QuestionCursor.of(content.get(content.size() - 1)).encode() : null)
+                .build();
+    }
+
+    /**
+     * 상세 조회 - QuestionDetailCache를 거쳐 읽는다. (miss일 때만 엔티티/작성자 로딩)
+     * - 트랜잭션 없음: hit은 커넥션을 잡지 않고, miss만 QuestionDetailLoader의 읽기 전용 트랜잭션에서 로딩 (open-in-view=false)
+     * - 수정/삭제, 답변·댓글 등록/삭제는 QuestionChangedEvent로 커밋 이후 해당 항목을 무효화
+     */
+    public QuestionResponse getQuestionDetail(Long id) {
+        return questionDetailCache.get(id, () -> questionDetailLoader.load(id));
+    }
+
     @Transactional
     public void createQuestion(Long userId, QuestionCreateRequest req) {
         Users user = userRepository.findById(userId)
@@ -82,6 +184,7 @@ public class QuestionService {
                 .build();
 
         questionRepository.save(q);
+        eventPublisher.publishEvent(new QuestionCountChangedEvent(q.getTrack()));
     }
 
     @Transactional
@@ -94,15 +197,22 @@ public class QuestionService {
             throw new AccessDeniedException("본인의 질문만 수정할 수 있습니다.");
         }
 
-        question.change(req.getTitle(), req.getContent(), req.getTrack());
-        questionRepository.save(question);
+        Track previousTrack = question.getTrack();
+        question.change(req.getTitle(), req.getContent(), req.getTrack()); // 변경 감지로 UPDATE
+        // 제목(검색 결과)이나 트랙이 바뀔 수 있음 → 이전/현재 트랙 모두
+        eventPublisher.publishEvent(new QuestionCountChangedEvent(previousTrack));
+        if (question.getTrack() != previousTrack) {
+            eventPublisher.publishEvent(new QuestionCountChangedEvent(question.getTrack()));
+        }
+        eventPublisher.publishEvent(new QuestionChangedEvent(questionId));
     }
 
+    /**
+     * 질문 삭제 - 질문/답변/댓글 soft delete, SQL 4회 (SELECT + 질문 UPDATE + 댓글/답변 벌크 UPDATE)
+     * - 영구 삭제는 보존 기간이 지난 뒤 QnaPurgeJob이 처리
+     */
     @Transactional
     public void deleteQuestion(Long userId, Long questionId) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("로그인 사용자 없음"));
-
         Question question = questionRepository.findById(questionId)
                 .filter(q -> !q.isDeleted())
                 .orElseThrow(() -> new QuestionNotFoundException(questionId.toString()));
@@ -112,7 +222,11 @@ public class QuestionService {
             throw new AccessDeniedException("본인의 질문만 삭제할 수 있습니다.");
         }
 
-        question.softDelete();
-        questionRepository.save(question);
+        question.softDelete(); // 변경 감지로 UPDATE (아래 벌크 UPDATE 직전에 flush)
+        // 답변/댓글도 같은 삭제 시각으로 - 자식을 로딩하지 않고 UPDATE 한 번씩 (댓글 → 답변 순)
+        commentRepository.softDeleteByQuestionId(questionId, question.getDeletedAt());
+        answerRepository.softDeleteByQuestionId(questionId, question.getDeletedAt());
+        eventPublisher.publishEvent(new QuestionCountChangedEvent(question.getTrack()));
+        eventPublisher.publishEvent(new QuestionChangedEvent(questionId));
     }
 }
@@ -0,0 +1,55 @@
+package com.BugJava.EduConnect.qnaboard.service;
+
+import com.BugJava.EduConnect.qnaboard.dto.AnswerListItem;
+import com.BugJava.EduConnect.qnaboard.dto.CommentListItem;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionResponse;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionThreadResponse;
+import com.BugJava.EduConnect.qnaboard.entity.Answer;
+import com.BugJava.EduConnect.qnaboard.entity.Comment;
+import com.BugJava.EduConnect.qnaboard.repository.AnswerRepository;
+import com.BugJava.EduConnect.qnaboard.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 질문 스레드 한 번에 조회 (상세 → 답변 목록 → 답변별 댓글 목록을 따로 호출하던 1 + 1 + N 요청 대체)
+ * - 질문: QuestionService 상세 조회 (QuestionDetailCache, 존재/삭제 여부 검사 포함)
+ * - 답변: 작성자 join fetch 1회
+ * - 댓글: 모든 답변 id를 IN으로 묶어 작성자 join fetch 1회 (답변이 없으면 생략)
+ * → 답변/댓글 개수와 무관하게 SQL 수가 고정
+ * @author rua
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionThreadService {
+
+    private final QuestionService questionService;
+    private final AnswerRepository answerRepository;
+    private final CommentRepository commentRepository;
+
+    @Transactional(readOnly = true)
+    public QuestionThreadResponse getThread(Long questionId) {
+        QuestionResponse question = questionService.getQuestionDetail(questionId);
+
+        List<Answer> answers = answerRepository.findThreadAnswers(questionId);
+        Map<Long, List<CommentListItem>> commentsByAnswer = answers.isEmpty()
+                ? Map.of()
+                : commentRepository.findThreadComments(answers.stream().map(Answer::getId).toList()).stream()
+                        .collect(Collectors.groupingBy(c -> c.getAnswer().getId(),
+                                Collectors.mapping(CommentListItem::from, Collectors.toList())));
+
+        List<AnswerListItem> items = answers.stream()
+                .map(a -> AnswerListItem.of(a, commentsByAnswer.getOrDefault(a.getId(), List.of())))
+                .toList();
+
+        return QuestionThreadResponse.builder()
+                .question(question)
+                .answers(items)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 엔티티 id 생성을 IDENTITY → SEQUENCE(pooled, allocationSize = 50)로 전환
+ * - Hibernate가 INSERT 전에 id를 확보하므로 hibernate.jdbc.batch_size 배치 INSERT가 동작한다.
+ * - increment by 는 엔티티의 allocationSize와 같아야 한다. (pooled optimizer)
+ * - id 컬럼의 identity 기본값은 그대로 둔다. (by default → 명시적 id 허용)
+ * - 시작값은 테이블의 max(id) + allocationSize → 데이터가 있는 DB에 적용돼도
+ *   pooled optimizer가 처음 확보하는 구간 (max(id), max(id) + 50]이 기존 id와 겹치지 않는다.
+ *   (SQL만으로는 DB마다 START WITH에 식을 쓸 수 있는지가 달라 Java 마이그레이션으로 계산)
+ * @author rua
+ */
+public class V2__pooled_sequences extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    // 시퀀스 이름 → 테이블 (엔티티의 @SequenceGenerator sequenceName과 같아야 함)
+    private static final Map<String, String> SEQUENCES = new LinkedHashMap<>();
+
+    static {
+        SEQUENCES.put("users_seq", "users");
+        SEQUENCES.put("question_seq", "question");
+        SEQUENCES.put("answers_seq", "answers");
+        SEQUENCES.put("comments_seq", "comments");
+        SEQUENCES.put("posts_seq", "posts");
+        SEQUENCES.put("fb_comments_seq", "fb_comments");
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (Map.Entry<String, String> sequence : SEQUENCES.entrySet()) {
+                long maxId;
+                try (ResultSet rs = statement.executeQuery("select coalesce(max(id), 0) from " + sequence.getValue())) {
+                    rs.next();
+                    maxId = rs.getLong(1);
+                }
+                statement.execute("create sequence " + sequence.getKey()
+                        + " start with " + (maxId + ALLOCATION_SIZE)
+                        + " increment by " + ALLOCATION_SIZE);
+            }
+        }
+    }
+}
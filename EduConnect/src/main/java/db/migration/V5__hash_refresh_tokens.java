@@ -0,0 +1,49 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * refresh_token.token에 저장된 토큰 원문을 digest(16진수 32자)로 변환
+ * - 이후 JpaRefreshTokenStore는 TokenDigest.toHex()만 저장/비교한다.
+ * - 형식은 TokenDigest와 같다: SHA-256 앞 16바이트를 long 두 개로 읽어 각각 16자리 16진수
+ *   (마이그레이션은 한 번 적용되면 바뀌면 안 되므로 애플리케이션 클래스를 쓰지 않고 여기서 계산)
+ * @author rua
+ */
+public class V5__hash_refresh_tokens extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Map<String, String> digests = new LinkedHashMap<>();
+        try (Statement statement = context.getConnection().createStatement();
+             ResultSet rs = statement.executeQuery("select username, token from refresh_token")) {
+            while (rs.next()) {
+                digests.put(rs.getString(1), digest(rs.getString(2)));
+            }
+        }
+        try (PreparedStatement update = context.getConnection()
+                .prepareStatement("update refresh_token set token = ? where username = ?")) {
+            for (Map.Entry<String, String> row : digests.entrySet()) {
+                update.setString(1, row.getValue());
+                update.setString(2, row.getKey());
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    static String digest(String token) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.wrap(hash);
+        return String.format("%016x%016x", buffer.getLong(), buffer.getLong());
+    }
+}
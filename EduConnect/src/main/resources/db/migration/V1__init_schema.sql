@@ -0,0 +1,105 @@
+-- EduConnect 초기 스키마 (기존 ddl-auto=update 결과 + 조회 경로별 인덱스)
+-- 자유게시판 댓글은 QnA 댓글(comments)과 테이블이 겹치지 않도록 fb_comments 사용
+-- - 옮길 데이터 없음: 이전 스키마(ddl-auto=update)는 인메모리 H2(jdbc:h2:mem)라 재시작 시 남는 행이 없었고,
+--   두 엔티티가 comments를 같이 쓰던 동안에는 answer_id/post_id가 모두 not null이라 자유게시판 댓글 INSERT가
+--   실패했으므로 comments에는 자유게시판 댓글 행이 들어간 적이 없다.
+-- - 인덱스는 여기(와 이후 마이그레이션)에서만 정의한다. 엔티티 @Table(indexes)는 ddl-auto=none이라 적용되지 않음
+
+create table users (
+    id          bigint generated by default as identity primary key,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    email       varchar(100) not null,
+    password    varchar(255) not null,
+    name        varchar(50)  not null,
+    role        varchar(20)  not null,
+    is_deleted  boolean      not null,
+    deleted_at  timestamp(6),
+    track       varchar(30)  not null,
+    constraint uk_users_email unique (email)
+);
+
+create table refresh_token (
+    username    varchar(255)  not null primary key,
+    token       varchar(1000) not null,
+    expiry      bigint        not null
+);
+
+create table question (
+    id             bigint generated by default as identity primary key,
+    created_at     timestamp(6),
+    updated_at     timestamp(6),
+    user_id        bigint       not null,
+    track          varchar(30)  not null,
+    title          varchar(200) not null,
+    content        clob         not null,
+    is_deleted     boolean      not null,
+    deleted_at     timestamp(6),
+    answer_count   bigint       default 0 not null,
+    comment_count  bigint       default 0 not null,
+    constraint fk_question_user foreign key (user_id) references users (id)
+);
+
+create table answers (
+    id           bigint generated by default as identity primary key,
+    created_at   timestamp(6),
+    updated_at   timestamp(6),
+    content      varchar(255),
+    is_deleted   boolean not null,
+    deleted_at   timestamp(6),
+    user_id      bigint  not null,
+    question_id  bigint  not null,
+    constraint fk_answers_user foreign key (user_id) references users (id),
+    constraint fk_answers_question foreign key (question_id) references question (id)
+);
+
+create table comments (
+    id          bigint generated by default as identity primary key,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    content     varchar(255),
+    user_id     bigint  not null,
+    answer_id   bigint  not null,
+    is_deleted  boolean not null,
+    deleted_at  timestamp(6),
+    constraint fk_comments_user foreign key (user_id) references users (id),
+    constraint fk_comments_answer foreign key (answer_id) references answers (id)
+);
+
+create table posts (
+    id          bigint generated by default as identity primary key,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    title       varchar(100) not null,
+    content     clob         not null,
+    user_id     bigint       not null,
+    constraint fk_posts_user foreign key (user_id) references users (id)
+);
+
+create table fb_comments (
+    id          bigint generated by default as identity primary key,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    content     clob   not null,
+    user_id     bigint not null,
+    post_id     bigint not null,
+    constraint fk_fb_comments_user foreign key (user_id) references users (id),
+    constraint fk_fb_comments_post foreign key (post_id) references posts (id)
+);
+
+-- QnA 목록/검색: is_deleted = false [and track = ?] order by created_at desc, id desc
+create index idx_question_deleted_created on question (is_deleted, created_at, id);
+create index idx_question_deleted_track_created on question (is_deleted, track, created_at, id);
+create index idx_question_user on question (user_id);
+
+-- 질문별 답변: question_id = ? and is_deleted = false
+create index idx_answers_question_deleted on answers (question_id, is_deleted);
+create index idx_answers_user on answers (user_id);
+
+-- 답변별 댓글: answer_id = ? and is_deleted = false
+create index idx_comments_answer_deleted on comments (answer_id, is_deleted);
+create index idx_comments_user on comments (user_id);
+
+create index idx_posts_user on posts (user_id);
+create index idx_fb_comments_post on fb_comments (post_id);
+create index idx_fb_comments_user on fb_comments (user_id);
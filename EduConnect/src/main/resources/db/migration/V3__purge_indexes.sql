@@ -0,0 +1,6 @@
+-- QnaPurgeJob: 보존 기간이 지난 soft delete 행을 (is_deleted, deleted_at) 범위로 찾는다.
+-- - 자식 존재 여부(not exists)는 기존 idx_answers_question_deleted / idx_comments_answer_deleted 사용
+
+create index idx_question_deleted_at on question (is_deleted, deleted_at);
+create index idx_answers_deleted_at on answers (is_deleted, deleted_at);
+create index idx_comments_deleted_at on comments (is_deleted, deleted_at);
@@ -0,0 +1,5 @@
+-- UserRevocationService: 사용자 단위 폐기 epoch(모든 기기 로그아웃 시각, epoch 초)를 재시작 후에도 유지
+-- - 기동/주기 동기화 시 아직 유효한 값(tokens_valid_after > now - 최대 토큰 유효기간)만 범위로 읽는다.
+
+alter table users add column tokens_valid_after bigint;
+create index idx_users_tokens_valid_after on users (tokens_valid_after);
@@ -0,0 +1,156 @@
+package com.BugJava.EduConnect.auth.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로그인 시 커넥션 점유 시간 테스트
+ * - 해싱이 느린 PasswordEncoder로 로그인하면서 Hikari 활성 커넥션 수를 샘플링
+ * - 트랜잭션이 해싱을 감싸면 해싱 시간 내내 커넥션이 잡혀 있게 된다.
+ * - 커밋된 데이터로 측정해야 하므로 @Transactional 없이 실행하고 직접 정리한다.
+ *
+ * @author rua
+ */
+@SpringBootTest(properties = "auth.refresh-token.store=memory") // write-behind flush가 측정에 섞이지 않도록
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LoginConnectionHoldTest {
+
+    private static final long HASH_MILLIS = 300;
+    private static final long MAX_HOLD_MILLIS = 100;
+
+    private static final AtomicLong hashStartedAt = new AtomicLong();
+    private static final AtomicLong hashEndedAt = new AtomicLong();
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private DataSource dataSource;
+
+    @TestConfiguration
+    static class SlowPasswordEncoderConfig {
+        @Bean
+        @Primary
+        PasswordEncoder slowPasswordEncoder() {
+            BCryptPasswordEncoder delegate = new BCryptPasswordEncoder(4);
+            return new PasswordEncoder() {
+                @Override
+                public String encode(CharSequence rawPassword) {
+                    return delegate.encode(rawPassword);
+                }
+
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                    hashStartedAt.set(System.nanoTime());
+                    LockSupport.parkNanos(HASH_MILLIS * 1_000_000); // 높은 cost의 BCrypt 흉내
+                    boolean matched = delegate.matches(rawPassword, encodedPassword);
+                    hashEndedAt.set(System.nanoTime());
+                    return matched;
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(Users.builder()
+                .email("hold@test.com")
+                .password(passwordEncoder.encode("password123"))
+                .name("커넥션테스트")
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail("hold@test.com").ifPresent(userRepository::delete);
+    }
+
+    @Test
+    @DisplayName("로그인 - 비밀번호 해싱 동안 커넥션을 잡고 있지 않는다")
+    void loginDoesNotHoldConnectionWhileHashing() throws Exception {
+        // given
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        List<long[]> samples = new ArrayList<>(); // {nanoTime, activeConnections}
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (sampling.get()) {
+                synchronized (samples) {
+                    samples.add(new long[]{System.nanoTime(), pool.getActiveConnections()});
+                }
+                LockSupport.parkNanos(200_000);
+            }
+        });
+        sampler.start();
+
+        // when
+        try {
+            mockMvc.perform(post("/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    Map.of("email", "hold@test.com", "password", "password123"))))
+                    .andExpect(status().isOk());
+        } finally {
+            sampling.set(false);
+            sampler.join();
+        }
+
+        // then
+        long longestHoldNanos = 0;
+        long holdStartedAt = -1;
+        long heldWhileHashing = 0;
+        synchronized (samples) {
+            for (long[] sample : samples) {
+                boolean held = sample[1] > 0;
+                if (held && holdStartedAt < 0) {
+                    holdStartedAt = sample[0];
+                } else if (!held && holdStartedAt >= 0) {
+                    longestHoldNanos = Math.max(longestHoldNanos, sample[0] - holdStartedAt);
+                    holdStartedAt = -1;
+                }
+                if (held && sample[0] > hashStartedAt.get() && sample[0] < hashEndedAt.get()) {
+                    heldWhileHashing++;
+                }
+            }
+        }
+
+        assertThat(hashEndedAt.get() - hashStartedAt.get()).isGreaterThanOrEqualTo(HASH_MILLIS * 1_000_000);
+        assertThat(heldWhileHashing).isZero();
+        assertThat(longestHoldNanos / 1_000_000).isLessThan(MAX_HOLD_MILLIS);
+    }
+}
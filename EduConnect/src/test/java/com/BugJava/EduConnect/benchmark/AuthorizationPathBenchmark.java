@@ -0,0 +1,107 @@
+package com.BugJava.EduConnect.benchmark;
+
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.common.security.JwtAuthenticationToken;
+import com.BugJava.EduConnect.common.util.AuthorizationUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 객체 생성 + 권한 검사 경로 마이크로벤치마크
+ * - before: 요청마다 SimpleGrantedAuthority 리스트 생성 + 권한 문자열 stream 비교 (기존 구현 재현)
+ * - after : JwtAuthenticationToken + 역할 비트 검사
+ * - 실행: ./gradlew benchmark --tests "AuthorizationPathBenchmark"
+ *
+ * @author rua
+ */
+@Tag("benchmark")
+class AuthorizationPathBenchmark {
+
+    private static final int WARMUP = 2_000_000;
+    private static final int ITERATIONS = 10_000_000;
+
+    private final AuthorizationUtil authorizationUtil = new AuthorizationUtil();
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("요청당 인증 객체 생성 + checkOwnerOrAdmin + hasAnyRole")
+    void authorizationPath() {
+        Result before = measure(this::legacyPath);
+        Result after = measure(this::currentPath);
+
+        System.out.printf("[authz] before: %6.1f ns/op %6.1f B/op%n", before.nanosPerOp, before.bytesPerOp);
+        System.out.printf("[authz] after : %6.1f ns/op %6.1f B/op%n", after.nanosPerOp, after.bytesPerOp);
+        assertThat(after.bytesPerOp).isLessThan(before.bytesPerOp);
+    }
+
+    // 기존 구현: 필터에서 권한 리스트 생성, 검사 시 문자열 stream 비교, hasAnyRole은 Set.of 생성
+    private boolean legacyPath(long userId) {
+        List<SimpleGrantedAuthority> authorities =
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + Role.STUDENT.name()));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userId, null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        Authentication current = SecurityContextHolder.getContext().getAuthentication();
+        boolean isAdmin = current.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(role -> role.equals("ROLE_ADMIN"));
+        boolean owner = isAdmin || Long.valueOf(userId).equals(current.getPrincipal());
+        Set<String> target = Set.of("ROLE_INSTRUCTOR", "ROLE_ADMIN");
+        boolean privileged = current.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(target::contains);
+        return owner && !privileged;
+    }
+
+    private boolean currentPath(long userId) {
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(userId, Role.STUDENT));
+
+        authorizationUtil.checkOwnerOrAdmin(userId);
+        return !authorizationUtil.hasAnyRole(Role.INSTRUCTOR, Role.ADMIN);
+    }
+
+    private interface Path {
+        boolean run(long userId);
+    }
+
+    private record Result(double nanosPerOp, double bytesPerOp) {
+    }
+
+    private static Result measure(Path path) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += path.run(1 + (i & 1023)) ? 1 : 0;
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += path.run(1 + (i & 1023)) ? 1 : 0;
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        assertThat(sink).isEqualTo((long) WARMUP + ITERATIONS);
+        return new Result((double) elapsed / ITERATIONS, (double) allocated / ITERATIONS);
+    }
+}
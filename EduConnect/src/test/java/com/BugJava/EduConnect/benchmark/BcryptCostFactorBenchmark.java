@@ -0,0 +1,65 @@
+package com.BugJava.EduConnect.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BCrypt cost factor 선정용 벤치마크
+ * - cost별 matches() 1회 평균 시간과, 코어 수 기준 초당 처리 가능한 로그인 수를 출력
+ * - 목표: 1회 50~250ms 범위에서 가장 큰 cost → security.password.bcrypt-strength 에 반영
+ * - 실행: ./gradlew benchmark --tests "BcryptCostFactorBenchmark"
+ *
+ * @author rua
+ */
+@Tag("benchmark")
+class BcryptCostFactorBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final long MEASURE_NANOS = 2_000_000_000L; // cost별 최소 측정 시간 2초
+    private static final double TARGET_MAX_MILLIS = 250.0;
+
+    @Test
+    @DisplayName("BCrypt cost 8~14 해싱 시간 측정")
+    void measureCostFactors() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int recommended = -1;
+
+        for (int cost = 8; cost <= 14; cost++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+            String hash = encoder.encode("password1234!");
+
+            // warm-up (JIT)
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                encoder.matches("password1234!", hash);
+            }
+
+            int iterations = 0;
+            long start = System.nanoTime();
+            long elapsed;
+            do {
+                assertThat(encoder.matches("password1234!", hash)).isTrue();
+                iterations++;
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < MEASURE_NANOS);
+
+            double avgMillis = elapsed / 1_000_000.0 / iterations;
+            double loginsPerSecond = cores * 1000.0 / avgMillis;
+            System.out.printf("[bcrypt] cost=%2d avg=%8.2f ms  ~%,.0f logins/s on %d cores%n",
+                    cost, avgMillis, loginsPerSecond, cores);
+
+            if (avgMillis <= TARGET_MAX_MILLIS) {
+                recommended = cost;
+            }
+            if (avgMillis > TARGET_MAX_MILLIS * 4) {
+                break; // 더 높은 cost는 측정할 필요 없음
+            }
+        }
+
+        System.out.printf("[bcrypt] recommended security.password.bcrypt-strength=%d%n", recommended);
+        assertThat(recommended).isGreaterThanOrEqualTo(8);
+    }
+}
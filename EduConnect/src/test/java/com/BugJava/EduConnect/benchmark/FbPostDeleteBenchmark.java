@@ -0,0 +1,151 @@
+package com.BugJava.EduConnect.benchmark;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.common.security.JwtAuthenticationToken;
+import com.BugJava.EduConnect.freeboard.domain.FbComment;
+import com.BugJava.EduConnect.freeboard.domain.FbPost;
+import com.BugJava.EduConnect.freeboard.repository.FbCommentRepository;
+import com.BugJava.EduConnect.freeboard.repository.FbPostRepository;
+import com.BugJava.EduConnect.freeboard.service.FbPostService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글이 많은 게시글 삭제 비교
+ * - before: 게시글 + 댓글 전체(작성자 포함) 로딩 후 cascade/orphanRemoval로 댓글마다 DELETE (기존 deletePost)
+ * - after : FbPostService.deletePost (작성자 id 조회 + 댓글/게시글 벌크 DELETE 두 번)
+ * - 실행: ./gradlew benchmark --tests "FbPostDeleteBenchmark"
+ *
+ * @author rua
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class FbPostDeleteBenchmark {
+
+    private static final int POSTS = 10;
+    private static final int COMMENTS_PER_POST = 2_000;
+
+    @Autowired private FbPostService postService;
+    @Autowired private FbPostRepository postRepository;
+    @Autowired private FbCommentRepository commentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Users writer;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        commentRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAll();
+        writer = userRepository.save(Users.builder()
+                .email("fb-delete-bench@test.com")
+                .password("encoded")
+                .name("벤치마크학생")
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(writer.getId(), Role.STUDENT));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        commentRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("댓글 2,000개 게시글 삭제: 로딩 + cascade vs 벌크 DELETE")
+    void deletePostWithLargeThread() {
+        // 워밍업
+        deleteByCascade(seed(1).get(0));
+        postService.deletePost(seed(1).get(0), writer.getId());
+
+        // before
+        List<Long> ids = seed(POSTS);
+        statistics.clear();
+        long start = System.nanoTime();
+        for (Long id : ids) {
+            deleteByCascade(id);
+        }
+        long beforeNanos = System.nanoTime() - start;
+        long beforeStatements = statistics.getPrepareStatementCount();
+        assertThat(commentRepository.count()).isZero();
+
+        // after
+        ids = seed(POSTS);
+        statistics.clear();
+        start = System.nanoTime();
+        for (Long id : ids) {
+            postService.deletePost(id, writer.getId());
+        }
+        long afterNanos = System.nanoTime() - start;
+        long afterStatements = statistics.getPrepareStatementCount();
+        assertThat(commentRepository.count()).isZero();
+        assertThat(postRepository.count()).isZero();
+
+        double beforeMillis = beforeNanos / 1e6 / POSTS;
+        double afterMillis = afterNanos / 1e6 / POSTS;
+        System.out.printf("[fb-delete] before: %8.2f ms/post %8d statements%n", beforeMillis, beforeStatements);
+        System.out.printf("[fb-delete] after : %8.2f ms/post %8d statements (x%.1f)%n",
+                afterMillis, afterStatements, beforeMillis / afterMillis);
+        assertThat(afterStatements).isLessThan(beforeStatements);
+    }
+
+    // 기존 구현과 같은 경로
+    private void deleteByCascade(Long id) {
+        transactionTemplate.executeWithoutResult(status ->
+                postRepository.delete(postRepository.findWithCommentsById(id).orElseThrow()));
+    }
+
+    // 게시글마다 댓글 COMMENTS_PER_POST개 (시퀀스 id + JDBC 배치 INSERT)
+    private List<Long> seed(int posts) {
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = new ArrayList<>(posts);
+            for (int p = 0; p < posts; p++) {
+                FbPost post = postRepository.save(FbPost.builder()
+                        .title("대량 댓글 " + p)
+                        .content("내용")
+                        .user(writer)
+                        .build());
+                List<FbComment> comments = new ArrayList<>(COMMENTS_PER_POST);
+                for (int c = 0; c < COMMENTS_PER_POST; c++) {
+                    comments.add(FbComment.builder()
+                            .content("댓글 " + c)
+                            .user(writer)
+                            .post(post)
+                            .build());
+                }
+                commentRepository.saveAll(comments);
+                ids.add(post.getId());
+            }
+            return ids;
+        });
+    }
+}
@@ -0,0 +1,134 @@
+package com.BugJava.EduConnect.benchmark;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionBulkImportResponse;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionCreateRequest;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.BugJava.EduConnect.qnaboard.service.QuestionBulkImportService;
+import com.BugJava.EduConnect.qnaboard.service.QuestionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 질문 대량 등록 처리량 비교
+ * - before: 한 건씩 QuestionService.createQuestion (요청/트랜잭션/INSERT가 행마다 - 기존 시드 방식)
+ * - after : QuestionBulkImportService (JSON 배열 스트리밍, 청크 트랜잭션, 시퀀스 id + JDBC 배치 INSERT)
+ * - 실행: ./gradlew benchmark --tests "QnaBulkInsertBenchmark"
+ *
+ * @author rua
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class QnaBulkInsertBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final int WARMUP_ROWS = 500;
+
+    @Autowired private QuestionService questionService;
+    @Autowired private QuestionBulkImportService questionBulkImportService;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Long instructorId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+        instructorId = userRepository.save(Users.builder()
+                .email("bulk-bench@test.com")
+                .password("encoded")
+                .name("벤치마크강사")
+                .role(Role.INSTRUCTOR)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("질문 대량 등록: 건별 등록 vs 스트리밍 일괄 등록")
+    void bulkInsert() throws Exception {
+        List<Map<String, String>> rows = rows(ROWS);
+        byte[] body = objectMapper.writeValueAsBytes(rows);
+        List<QuestionCreateRequest> requests = new ArrayList<>(ROWS);
+        for (Map<String, String> row : rows) {
+            requests.add(objectMapper.convertValue(row, QuestionCreateRequest.class));
+        }
+
+        // 워밍업
+        for (int i = 0; i < WARMUP_ROWS; i++) {
+            questionService.createQuestion(instructorId, requests.get(i));
+        }
+        questionBulkImportService.importQuestions(instructorId,
+                new ByteArrayInputStream(objectMapper.writeValueAsBytes(rows(WARMUP_ROWS))));
+        questionRepository.deleteAllInBatch();
+
+        // before
+        statistics.clear();
+        long start = System.nanoTime();
+        for (QuestionCreateRequest req : requests) {
+            questionService.createQuestion(instructorId, req);
+        }
+        long beforeNanos = System.nanoTime() - start;
+        long beforeStatements = statistics.getPrepareStatementCount();
+        assertThat(questionRepository.count()).isEqualTo(ROWS);
+        questionRepository.deleteAllInBatch();
+
+        // after
+        statistics.clear();
+        start = System.nanoTime();
+        QuestionBulkImportResponse result = questionBulkImportService.importQuestions(instructorId, new ByteArrayInputStream(body));
+        long afterNanos = System.nanoTime() - start;
+        long afterStatements = statistics.getPrepareStatementCount();
+        assertThat(result.getImported()).isEqualTo(ROWS);
+        assertThat(questionRepository.count()).isEqualTo(ROWS);
+
+        double beforeRate = ROWS / (beforeNanos / 1e9);
+        double afterRate = ROWS / (afterNanos / 1e9);
+        System.out.printf("[qna-bulk] before: %10.0f rows/s %8d statements%n", beforeRate, beforeStatements);
+        System.out.printf("[qna-bulk] after : %10.0f rows/s %8d statements (x%.1f)%n", afterRate, afterStatements, afterRate / beforeRate);
+        assertThat(afterStatements).isLessThan(beforeStatements);
+    }
+
+    private static List<Map<String, String>> rows(int count) {
+        List<Map<String, String>> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(Map.of(
+                    "title", "과정 질문 " + i,
+                    "content", "시드 질문 본문 " + i,
+                    "track", i % 2 == 0 ? "BACKEND" : "FRONTEND"));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,136 @@
+package com.BugJava.EduConnect.benchmark;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionAllResponse;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionSpecs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QnA 목록 한 페이지 조회 비용 비교
+ * - before: Question 엔티티(+ content TEXT) + Users 엔티티 로딩 후 QuestionAllResponse.from 변환 (기존 구현 재현)
+ * - after : 목록 컬럼만 QuestionAllResponse로 바로 select (QuestionRepository.findPage)
+ * - 실행: ./gradlew benchmark --tests "QnaListProjectionBenchmark"
+ *
+ * @author rua
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class QnaListProjectionBenchmark {
+
+    private static final int QUESTIONS = 2_000;
+    private static final int CONTENT_LENGTH = 4_000;
+    private static final int WARMUP = 300;
+    private static final int ITERATIONS = 1_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+        Users writer = userRepository.save(Users.builder()
+                .email("bench@test.com")
+                .password("encoded")
+                .name("벤치마크")
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+
+        String content = "본문".repeat(CONTENT_LENGTH / 2);
+        List<Question> questions = new ArrayList<>(QUESTIONS);
+        for (int i = 0; i < QUESTIONS; i++) {
+            questions.add(Question.builder()
+                    .title("Spring 질문 " + i)
+                    .content(content)
+                    .track(i % 2 == 0 ? Track.BACKEND : Track.FRONTEND)
+                    .user(writer)
+                    .isDeleted(false)
+                    .build());
+        }
+        questionRepository.saveAll(questions);
+    }
+
+    @AfterEach
+    void tearDown() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("목록 페이지 조회: 엔티티 로딩 vs 컬럼 프로젝션")
+    void listPage() {
+        Result before = measure(pageable -> questionRepository
+                .findAll(QuestionSpecs.buildSearch(null), pageable)
+                .map(QuestionAllResponse::from));
+        Result after = measure(pageable -> questionRepository.findPage(QuestionSpecs.buildSearch(null), pageable));
+
+        System.out.printf("[qna-list] before: %8.1f us/page %10.1f KB/page%n", before.microsPerPage, before.kbPerPage);
+        System.out.printf("[qna-list] after : %8.1f us/page %10.1f KB/page%n", after.microsPerPage, after.kbPerPage);
+        assertThat(after.kbPerPage).isLessThan(before.kbPerPage);
+    }
+
+    private record Result(double microsPerPage, double kbPerPage) {
+    }
+
+    private Result measure(Function<Pageable, Page<QuestionAllResponse>> loader) {
+        int pages = QUESTIONS / PAGE_SIZE;
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += loadPage(loader, i % pages);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += loadPage(loader, i % pages);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        assertThat(sink).isEqualTo((long) (WARMUP + ITERATIONS) * PAGE_SIZE);
+        return new Result(elapsed / 1_000.0 / ITERATIONS, allocated / 1024.0 / ITERATIONS);
+    }
+
+    // 요청마다 트랜잭션(= 영속성 컨텍스트) 하나
+    private int loadPage(Function<Pageable, Page<QuestionAllResponse>> loader, int page) {
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return readOnly.execute(status -> loader.apply(pageable).getNumberOfElements());
+    }
+}
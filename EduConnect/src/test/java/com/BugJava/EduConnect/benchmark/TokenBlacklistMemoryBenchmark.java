@@ -0,0 +1,97 @@
+package com.BugJava.EduConnect.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.BugJava.EduConnect.common.service.ExpiryWheel;
+import com.BugJava.EduConnect.common.service.InMemoryTokenBlacklistService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 블랙리스트 메모리 벤치마크
+ * - 기존 구조(원문 JWT를 Set + Map에 이중 저장) vs digest 키 + Bloom filter 구조
+ * - 실행: ./gradlew benchmark --tests "TokenBlacklistMemoryBenchmark"
+ *
+ * @author rua
+ */
+@Tag("benchmark")
+class TokenBlacklistMemoryBenchmark {
+
+    private static final int TOKEN_COUNT = 1_000_000;
+
+    @BeforeAll
+    static void silenceBlacklistLog() {
+        // 토큰 등록마다 남는 INFO 로그 100만 줄이 측정을 방해하지 않도록
+        ((Logger) LoggerFactory.getLogger(InMemoryTokenBlacklistService.class)).setLevel(Level.WARN);
+    }
+
+    @Test
+    @DisplayName("폐기 토큰 100만 개 - 원문 저장 대비 digest 저장 메모리 사용량")
+    void blacklistFootprintAtOneMillionTokens() {
+        LocalDateTime expiry = LocalDateTime.now().plusMinutes(30);
+
+        // given - 기존 구조
+        long before = usedHeap();
+        Set<String> legacyBlacklist = ConcurrentHashMap.newKeySet();
+        Map<String, LocalDateTime> legacyExpiryMap = new ConcurrentHashMap<>();
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            String token = fakeJwt(i);
+            legacyBlacklist.add(token);
+            legacyExpiryMap.put(token, expiry);
+        }
+        long legacyBytes = usedHeap() - before;
+        assertThat(legacyBlacklist).hasSize(TOKEN_COUNT);
+        assertThat(legacyExpiryMap).hasSize(TOKEN_COUNT);
+        legacyBlacklist = null;
+        legacyExpiryMap = null;
+
+        // when - digest 구조
+        before = usedHeap();
+        InMemoryTokenBlacklistService blacklistService = new InMemoryTokenBlacklistService(TOKEN_COUNT, 0.01,
+                new ExpiryWheel(1000, new SimpleMeterRegistry()));
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            blacklistService.addToBlacklist(fakeJwt(i), expiry);
+        }
+        long digestBytes = usedHeap() - before;
+
+        // then
+        assertThat(blacklistService.isBlacklisted(fakeJwt(TOKEN_COUNT / 2))).isTrue();
+        assertThat(blacklistService.isBlacklisted(fakeJwt(TOKEN_COUNT + 1))).isFalse();
+
+        System.out.printf("[blacklist] tokens=%,d legacy=%,d MB digest=%,d MB (%.1fx smaller)%n",
+                TOKEN_COUNT, legacyBytes >> 20, digestBytes >> 20, (double) legacyBytes / digestBytes);
+        assertThat(digestBytes).isLessThan(legacyBytes / 2);
+    }
+
+    // 실제 access token과 비슷한 길이(~190자)의 서로 다른 문자열
+    private static String fakeJwt(int seq) {
+        String payload = String.format("eyJzdWIiOiIlMDlkIiwianRpIjoi%036d", seq);
+        String signature = String.format("%043d", (long) seq * 2_654_435_761L);
+        return "eyJhbGciOiJIUzI1NiJ9." + payload + "InJvbGUiOiJTVFVERU5UIiwiaWF0IjoxNzAwMDAwMDAwLCJleHAiOjE3MDAwMDE4MDB9."
+                + signature;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
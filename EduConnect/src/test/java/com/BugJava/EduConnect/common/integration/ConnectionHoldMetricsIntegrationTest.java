@@ -0,0 +1,72 @@
+package com.BugJava.EduConnect.common.integration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청별 커넥션 점유 시간 메트릭 + OSIV 비활성화 확인
+ * - 요청이 직접 커넥션을 잡아야 측정되므로 @Transactional 없이 실행
+ *
+ * @author rua
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConnectionHoldMetricsIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private DataSource dataSource;
+    @Autowired private ApplicationContext applicationContext;
+
+    @Test
+    @DisplayName("DB를 읽는 요청은 uri 패턴별로 커넥션 점유 시간이 기록됨")
+    void recordsHoldTimePerRequest() throws Exception {
+        // given
+        long before = holdTimer("/api/posts") != null ? holdTimer("/api/posts").count() : 0;
+
+        // when
+        mockMvc.perform(get("/api/posts")).andExpect(status().isOk());
+
+        // then
+        Timer timer = holdTimer("/api/posts");
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(before + 1);
+        assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("open-in-view 비활성화 - 요청 전체가 아니라 트랜잭션 동안만 커넥션 사용")
+    void openInViewDisabled() {
+        assertThat(applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("감싼 DataSource에서도 Hikari 풀로 unwrap 가능")
+    void unwrapsToHikari() throws Exception {
+        assertThat(dataSource.unwrap(HikariDataSource.class)).isNotNull();
+    }
+
+    private Timer holdTimer(String uri) {
+        return meterRegistry.find("http.server.requests.connection.hold")
+                .tags("method", "GET", "uri", uri)
+                .timer();
+    }
+}
@@ -0,0 +1,127 @@
+package com.BugJava.EduConnect.freeboard.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.common.service.JwtTokenProvider;
+import com.BugJava.EduConnect.freeboard.domain.FbComment;
+import com.BugJava.EduConnect.freeboard.domain.FbPost;
+import com.BugJava.EduConnect.freeboard.repository.FbCommentRepository;
+import com.BugJava.EduConnect.freeboard.repository.FbPostRepository;
+import com.BugJava.EduConnect.support.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 자유게시판 엔드포인트별 SQL 실행 횟수 회귀 테스트
+ * - 게시글/댓글 작성자를 여러 명으로 만들어, 작성자 지연 로딩이 행마다 실행되면(N+1) 실패하도록
+ *
+ * @author rua
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class FbQueryCountIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private EntityManager entityManager;
+    @Autowired private FbPostRepository postRepository;
+    @Autowired private FbCommentRepository commentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+
+    private SqlStatementCounter counter;
+    private String token;
+    private String ownerToken; // 마지막 글(postId) 작성자
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+        counter = new SqlStatementCounter(entityManager);
+
+        List<Users> writers = List.of(
+                saveUser("fb-count-1@test.com", "작성자1"),
+                saveUser("fb-count-2@test.com", "작성자2"),
+                saveUser("fb-count-3@test.com", "작성자3"));
+        token = jwtTokenProvider.createAccessToken(writers.get(0).getId(), writers.get(0).getRole());
+
+        for (Users writer : writers) {
+            FbPost post = postRepository.save(FbPost.builder()
+                    .title(writer.getName() + "의 글")
+                    .content("내용")
+                    .user(writer)
+                    .build());
+            postId = post.getId();
+            ownerToken = jwtTokenProvider.createAccessToken(writer.getId(), writer.getRole());
+        }
+        // 마지막 글에 작성자가 다른 댓글 3개
+        FbPost post = postRepository.findById(postId).orElseThrow();
+        for (Users writer : writers) {
+            commentRepository.save(FbComment.builder()
+                    .content(writer.getName() + "의 댓글")
+                    .user(writer)
+                    .post(post)
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 목록: 작성자 포함 1회")
+    void listPosts() throws Exception {
+        counter.expect(1, () -> mockMvc.perform(get("/api/posts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3)));
+    }
+
+    @Test
+    @DisplayName("게시글 상세: 작성자 + 댓글 + 댓글 작성자까지 1회")
+    void postDetail() throws Exception {
+        counter.expect(1, () -> mockMvc.perform(get("/api/posts/{id}", postId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(3)));
+    }
+
+    @Test
+    @DisplayName("게시글 삭제: 작성자 id SELECT + 댓글 DELETE + 게시글 DELETE = 3 (댓글 수와 무관)")
+    void deletePost() throws Exception {
+        counter.expect(3, () -> mockMvc.perform(delete("/api/posts/{id}", postId)
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isNoContent()));
+
+        assertThat(postRepository.existsById(postId)).isFalse();
+        assertThat(commentRepository.count()).isZero();
+    }
+
+    private Users saveUser(String email, String name) {
+        return userRepository.save(Users.builder()
+                .email(email)
+                .password("encoded")
+                .name(name)
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+    }
+}
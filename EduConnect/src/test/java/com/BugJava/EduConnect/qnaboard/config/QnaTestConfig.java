@@ -19,7 +19,7 @@ import org.springframework.test.context.TestPropertySource;
     "jwt.secret-key=testSecretKeyForJwtTokenGenerationMinimum32Characters",
     "jwt.access-token-validity=3600000",
     "jwt.refresh-token-validity=86400000",
-    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.hibernate.ddl-auto=none",
     "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
     "spring.jpa.show-sql=true",
     "logging.level.org.springframework.security=DEBUG"
@@ -0,0 +1,115 @@
+package com.BugJava.EduConnect.qnaboard.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.common.service.JwtTokenProvider;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * QnA 질문 일괄 등록(POST /api/qna/questions/bulk) 통합 테스트
+ *
+ * @author rua
+ */
+@SpringBootTest(properties = "qna.bulk-import.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class QnaBulkImportIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+
+    private String instructorToken;
+    private String studentToken;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Users instructor = saveUser("bulk-instructor@test.com", Role.INSTRUCTOR);
+        Users student = saveUser("bulk-student@test.com", Role.STUDENT);
+        instructorToken = jwtTokenProvider.createAccessToken(instructor.getId(), instructor.getRole());
+        studentToken = jwtTokenProvider.createAccessToken(student.getId(), student.getRole());
+    }
+
+    @Test
+    @DisplayName("강사 일괄 등록 - 청크 단위 저장, 검증 실패 원소는 건너뛰고 인덱스 반환")
+    void instructorImportsInChunks() throws Exception {
+        String body = """
+                [
+                  {"title": "질문 1", "content": "내용 1", "track": "BACKEND"},
+                  {"title": "", "content": "제목 없음", "track": "BACKEND"},
+                  {"title": "질문 2", "content": "내용 2", "track": "FRONTEND"},
+                  {"title": "질문 3", "content": "내용 3", "track": "BACKEND"}
+                ]
+                """;
+
+        mockMvc.perform(post("/api/qna/questions/bulk")
+                        .header("Authorization", "Bearer " + instructorToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(3))
+                .andExpect(jsonPath("$.data.rejected").value(1))
+                .andExpect(jsonPath("$.data.rejectedIndexes[0]").value(1))
+                .andExpect(jsonPath("$.data.chunks").value(2));
+
+        assertThat(questionRepository.findAll())
+                .extracting("title")
+                .containsExactlyInAnyOrder("질문 1", "질문 2", "질문 3");
+    }
+
+    @Test
+    @DisplayName("학생은 일괄 등록 불가 (403)")
+    void studentForbidden() throws Exception {
+        mockMvc.perform(post("/api/qna/questions/bulk")
+                        .header("Authorization", "Bearer " + studentToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\": \"질문\", \"content\": \"내용\", \"track\": \"BACKEND\"}]"))
+                .andExpect(status().isForbidden());
+
+        assertThat(questionRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("배열이 아닌 본문은 400")
+    void rejectsNonArrayBody() throws Exception {
+        mockMvc.perform(post("/api/qna/questions/bulk")
+                        .header("Authorization", "Bearer " + instructorToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"질문\", \"content\": \"내용\", \"track\": \"BACKEND\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_BULK_IMPORT"));
+    }
+
+    private Users saveUser(String email, Role role) {
+        return userRepository.save(Users.builder()
+                .email(email)
+                .password("encoded")
+                .name("일괄등록")
+                .role(role)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+    }
+}
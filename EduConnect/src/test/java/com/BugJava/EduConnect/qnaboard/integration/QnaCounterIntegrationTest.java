@@ -0,0 +1,158 @@
+package com.BugJava.EduConnect.qnaboard.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.qnaboard.dto.AnswerCreateRequest;
+import com.BugJava.EduConnect.qnaboard.dto.CommentCreateRequest;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionAllResponse;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionResponse;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.repository.AnswerRepository;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.BugJava.EduConnect.qnaboard.service.AnswerService;
+import com.BugJava.EduConnect.qnaboard.service.CommentService;
+import com.BugJava.EduConnect.qnaboard.service.QuestionCounterRepairJob;
+import com.BugJava.EduConnect.qnaboard.service.QuestionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Question 비정규화 카운터(answerCount/commentCount) 통합 테스트
+ *
+ * @author rua
+ */
+@SpringBootTest(properties = "qna.counter-repair.chunk-size=2")
+@ActiveProfiles("test")
+@Transactional
+class QnaCounterIntegrationTest {
+
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private AnswerRepository answerRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private QuestionService questionService;
+    @Autowired private AnswerService answerService;
+    @Autowired private CommentService commentService;
+    @Autowired private QuestionCounterRepairJob questionCounterRepairJob;
+
+    private Long userId;
+    private Long questionId;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Users student = userRepository.save(Users.builder()
+                .email("counter@test.com")
+                .password("encoded")
+                .name("카운터학생")
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+        userId = student.getId();
+
+        questionId = questionRepository.save(Question.builder()
+                .title("카운터 질문")
+                .content("내용")
+                .track(Track.BACKEND)
+                .user(student)
+                .isDeleted(false)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("답변/댓글 등록과 삭제가 상세·목록 카운터에 반영됨")
+    void countersFollowCreateAndDelete() throws Exception {
+        // given
+        answerService.createAnswer(questionId, userId, answerRequest("답변 1"));
+        answerService.createAnswer(questionId, userId, answerRequest("답변 2"));
+        Long answerId = answerRepository.findByQuestionIdAndIsDeletedFalse(questionId).get(0).getId();
+        commentService.createComment(answerId, userId, commentRequest("댓글"));
+
+        // when
+        QuestionResponse detail = questionService.getQuestionDetail(questionId);
+        QuestionAllResponse listItem = questionService.getAllQuestions(PageRequest.of(0, 10)).getContent().get(0);
+
+        // then
+        assertThat(detail.getAnswerCount()).isEqualTo(2);
+        assertThat(detail.getCommentCount()).isEqualTo(1);
+        assertThat(listItem.getAnswerCount()).isEqualTo(2);
+        assertThat(listItem.getCommentCount()).isEqualTo(1);
+
+        // when - 답변 하나 삭제
+        answerService.deleteAnswer(answerId, userId);
+
+        // then
+        assertThat(questionService.getQuestionDetail(questionId).getAnswerCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재계산 작업이 어긋난 카운터를 실제 개수로 되돌림")
+    void repairRebuildsCounters() throws Exception {
+        // given - 답변 1개, 카운터는 임의로 어긋나게
+        answerService.createAnswer(questionId, userId, answerRequest("답변"));
+        questionRepository.addAnswerCount(questionId, 5);
+        assertThat(questionService.getQuestionDetail(questionId).getAnswerCount()).isEqualTo(6);
+
+        // when
+        questionCounterRepairJob.repair();
+
+        // then
+        QuestionResponse detail = questionService.getQuestionDetail(questionId);
+        assertThat(detail.getAnswerCount()).isEqualTo(1);
+        assertThat(detail.getCommentCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("재계산은 id 구간(chunk)을 나눠 돌고, 값이 다른 행만 UPDATE")
+    void repairUpdatesOnlyMismatchedRowsAcrossChunks() {
+        // given - 질문 5개(chunk 2 → 3구간), 그중 2개만 어긋남
+        Users student = userRepository.findById(userId).orElseThrow();
+        List<Long> ids = new ArrayList<>(List.of(questionId));
+        for (int i = 0; i < 4; i++) {
+            ids.add(questionRepository.save(Question.builder()
+                    .title("카운터 질문 " + i)
+                    .content("내용")
+                    .track(Track.BACKEND)
+                    .user(student)
+                    .isDeleted(false)
+                    .build()).getId());
+        }
+        questionRepository.addCounts(ids.get(1), 3, 0);
+        questionRepository.addCounts(ids.get(4), 0, 7);
+
+        // when
+        int updated = questionCounterRepairJob.repair();
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(questionRepository.findAllById(ids)).allSatisfy(q -> {
+            assertThat(q.getAnswerCount()).isZero();
+            assertThat(q.getCommentCount()).isZero();
+        });
+    }
+
+    private AnswerCreateRequest answerRequest(String content) throws Exception {
+        return objectMapper.readValue("{\"content\":\"" + content + "\"}", AnswerCreateRequest.class);
+    }
+
+    private CommentCreateRequest commentRequest(String content) throws Exception {
+        return objectMapper.readValue("{\"content\":\"" + content + "\"}", CommentCreateRequest.class);
+    }
+}
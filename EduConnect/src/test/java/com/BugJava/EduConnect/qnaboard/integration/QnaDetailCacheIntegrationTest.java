@@ -0,0 +1,165 @@
+package com.BugJava.EduConnect.qnaboard.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.common.util.ConnectionHoldTracker;
+import com.BugJava.EduConnect.qnaboard.dto.AnswerCreateRequest;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionUpdateRequest;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.repository.AnswerRepository;
+import com.BugJava.EduConnect.qnaboard.repository.CommentRepository;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.BugJava.EduConnect.qnaboard.service.AnswerService;
+import com.BugJava.EduConnect.qnaboard.service.QuestionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 질문 상세 캐시(QuestionDetailCache) 통합 테스트
+ * - 커밋 이후 무효화를 확인하기 위해 테스트 자체는 트랜잭션 없이 실행
+ *
+ * @author rua
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QnaDetailCacheIntegrationTest {
+
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private AnswerRepository answerRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private QuestionService questionService;
+    @Autowired private AnswerService answerService;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Long userId;
+    private Long questionId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        cleanUp();
+
+        Users student = userRepository.save(Users.builder()
+                .email("detail-cache@test.com")
+                .password("encoded")
+                .name("캐시학생")
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+        userId = student.getId();
+
+        questionId = questionRepository.save(Question.builder()
+                .title("캐시 질문")
+                .content("내용")
+                .track(Track.BACKEND)
+                .user(student)
+                .isDeleted(false)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시에서 반환, 서비스 수정은 커밋 이후 무효화")
+    void cachedUntilUpdateCommits() throws Exception {
+        // given - 한 번 조회해 캐시에 적재
+        assertThat(questionService.getQuestionDetail(questionId).getTitle()).isEqualTo("캐시 질문");
+
+        // when - 서비스를 거치지 않은 변경은 이벤트가 없으므로 캐시 값 유지
+        tx.executeWithoutResult(status -> questionRepository.findById(questionId).orElseThrow()
+                .change("직접 변경", "내용", Track.BACKEND));
+
+        // then
+        assertThat(questionService.getQuestionDetail(questionId).getTitle()).isEqualTo("캐시 질문");
+
+        // when - 서비스 수정
+        questionService.updateQuestion(userId, questionId, updateRequest("서비스 수정"));
+
+        // then
+        assertThat(questionService.getQuestionDetail(questionId).getTitle()).isEqualTo("서비스 수정");
+    }
+
+    @Test
+    @DisplayName("캐시 hit은 트랜잭션을 열지 않아 JDBC 커넥션을 잡지 않음, miss만 커넥션 1회")
+    void warmHitTakesNoConnection() {
+        // given - miss: 로더의 읽기 전용 트랜잭션에서 커넥션 1회
+        ConnectionHoldTracker.begin();
+        questionService.getQuestionDetail(questionId);
+        ConnectionHoldTracker.Hold miss = ConnectionHoldTracker.end();
+
+        // when - hit
+        ConnectionHoldTracker.begin();
+        questionService.getQuestionDetail(questionId);
+        ConnectionHoldTracker.Hold hit = ConnectionHoldTracker.end();
+
+        // then
+        assertThat(miss.acquisitions()).isEqualTo(1);
+        assertThat(hit.acquisitions()).isZero();
+    }
+
+    @Test
+    @DisplayName("답변 등록 커밋 후 상세 카운터가 갱신됨")
+    void answerCreationInvalidates() throws Exception {
+        // given
+        assertThat(questionService.getQuestionDetail(questionId).getAnswerCount()).isZero();
+
+        // when
+        answerService.createAnswer(questionId, userId, answerRequest("답변"));
+
+        // then
+        assertThat(questionService.getQuestionDetail(questionId).getAnswerCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변경한 트랜잭션 안에서는 캐시를 우회하고, 롤백되면 이전 값이 유지됨")
+    void uncommittedChangeNeverCached() throws Exception {
+        // given
+        assertThat(questionService.getQuestionDetail(questionId).getAnswerCount()).isZero();
+        AnswerCreateRequest req = answerRequest("롤백될 답변");
+
+        // when
+        tx.executeWithoutResult(status -> {
+            answerService.createAnswer(questionId, userId, req);
+            assertThat(questionService.getQuestionDetail(questionId).getAnswerCount()).isEqualTo(1);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(questionService.getQuestionDetail(questionId).getAnswerCount()).isZero();
+    }
+
+    private void cleanUp() {
+        commentRepository.deleteAll();
+        answerRepository.deleteAll();
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private QuestionUpdateRequest updateRequest(String title) throws Exception {
+        return objectMapper.readValue(
+                "{\"title\":\"" + title + "\",\"content\":\"내용\",\"track\":\"BACKEND\"}", QuestionUpdateRequest.class);
+    }
+
+    private AnswerCreateRequest answerRequest(String content) throws Exception {
+        return objectMapper.readValue("{\"content\":\"" + content + "\"}", AnswerCreateRequest.class);
+    }
+}
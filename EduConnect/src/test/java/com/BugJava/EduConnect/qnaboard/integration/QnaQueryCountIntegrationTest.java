@@ -0,0 +1,165 @@
+package com.BugJava.EduConnect.qnaboard.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.common.service.JwtTokenProvider;
+import com.BugJava.EduConnect.qnaboard.dto.AnswerCreateRequest;
+import com.BugJava.EduConnect.qnaboard.dto.CommentCreateRequest;
+import com.BugJava.EduConnect.qnaboard.dto.CommentResponse;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.repository.AnswerRepository;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.BugJava.EduConnect.qnaboard.service.AnswerService;
+import com.BugJava.EduConnect.qnaboard.service.CommentService;
+import com.BugJava.EduConnect.support.SqlStatementCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * QnA 엔드포인트별 SQL 실행 횟수 회귀 테스트
+ * - 작성자가 여러 명인 답변/댓글로 데이터를 만들어, 작성자 지연 로딩이 행마다 실행되면(N+1) 실패하도록
+ *
+ * @author rua
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class QnaQueryCountIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private EntityManager entityManager;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private AnswerRepository answerRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+    @Autowired private AnswerService answerService;
+    @Autowired private CommentService commentService;
+
+    private SqlStatementCounter counter;
+    private String token;
+    private Long questionId;
+    private List<Long> answerIds;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+        counter = new SqlStatementCounter(entityManager);
+
+        Users student = saveUser("count-student@test.com", "카운트학생");
+        Users other = saveUser("count-other@test.com", "다른학생");
+        Users third = saveUser("count-third@test.com", "세번째학생");
+        token = jwtTokenProvider.createAccessToken(student.getId(), student.getRole());
+
+        for (int i = 1; i <= 3; i++) {
+            Question q = questionRepository.save(Question.builder()
+                    .title("카운트 질문 " + i)
+                    .content("내용 " + i)
+                    .track(Track.BACKEND)
+                    .user(i == 1 ? student : other)
+                    .isDeleted(false)
+                    .build());
+            questionId = q.getId();
+        }
+
+        // 마지막 질문에 작성자가 다른 답변 3개, 답변마다 작성자가 다른 댓글 2개
+        List<Users> writers = List.of(student, other, third);
+        for (Users writer : writers) {
+            answerService.createAnswer(questionId, writer.getId(), request("답변", AnswerCreateRequest.class));
+        }
+        answerIds = answerRepository.findThreadAnswers(questionId).stream().map(a -> a.getId()).toList();
+        for (Long answerId : answerIds) {
+            commentService.createComment(answerId, student.getId(), request("댓글", CommentCreateRequest.class));
+            commentService.createComment(answerId, third.getId(), request("댓글", CommentCreateRequest.class));
+        }
+    }
+
+    @Test
+    @DisplayName("목록(Page): 꽉 찬 페이지는 목록 1 + count 1")
+    void listPage() throws Exception {
+        counter.expect(2, () -> mockMvc.perform(get("/api/qna/questions")
+                        .header("Authorization", "Bearer " + token)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2)));
+    }
+
+    @Test
+    @DisplayName("상세: 캐시 miss는 작성자 포함 1회, hit는 0회")
+    void detail() throws Exception {
+        Long plainQuestionId = questionRepository.findAll().stream()
+                .map(Question::getId)
+                .filter(id -> !id.equals(questionId))
+                .findFirst().orElseThrow();
+
+        counter.expect(1, () -> mockMvc.perform(get("/api/qna/questions/{id}", plainQuestionId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.writerName").isNotEmpty()));
+        counter.expect(0, () -> mockMvc.perform(get("/api/qna/questions/{id}", plainQuestionId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("스레드: 질문 + 답변 + 댓글(IN) = 3회, 답변/댓글 수와 무관")
+    void thread() throws Exception {
+        counter.expect(3, () -> mockMvc.perform(get("/api/qna/questions/{id}/thread", questionId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.answers.length()").value(3))
+                .andExpect(jsonPath("$.data.answers[2].comments.length()").value(2)));
+    }
+
+    @Test
+    @DisplayName("답변 목록: 존재 확인 1 + 작성자 포함 목록 1")
+    void answers() throws Exception {
+        counter.expect(2, () -> mockMvc.perform(get("/api/qna/questions/{id}/answers", questionId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3)));
+    }
+
+    @Test
+    @DisplayName("댓글 목록: 존재 확인 1 + 작성자 포함 목록 1")
+    void comments() throws Exception {
+        // /api/qna/answers/** 는 보안 설정상 허용 경로가 아니므로 서비스로 검증
+        List<CommentResponse> comments = counter.expect(2, () -> commentService.getComments(answerIds.get(0)));
+        assertThat(comments).hasSize(2);
+    }
+
+    private Users saveUser(String email, String name) {
+        return userRepository.save(Users.builder()
+                .email(email)
+                .password("encoded")
+                .name(name)
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+    }
+
+    private <T> T request(String content, Class<T> type) throws Exception {
+        return objectMapper.readValue("{\"content\":\"" + content + "\"}", type);
+    }
+}
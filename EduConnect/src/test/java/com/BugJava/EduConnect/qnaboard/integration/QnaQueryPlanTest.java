@@ -0,0 +1,197 @@
+package com.BugJava.EduConnect.qnaboard.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionCursor;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionSearchRequest;
+import com.BugJava.EduConnect.qnaboard.entity.Answer;
+import com.BugJava.EduConnect.qnaboard.entity.Comment;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.repository.AnswerRepository;
+import com.BugJava.EduConnect.qnaboard.repository.CommentRepository;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionSpecs;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QnA 주요 조회 쿼리 실행 계획 검증
+ * - 리포지토리 호출 시 Hibernate가 만든 SQL을 그대로 수집해 H2 EXPLAIN 실행
+ * - 계획에 tableScan이 있으면 실패 → 마이그레이션(V1__init_schema.sql)의 인덱스가 빠지거나 쿼리가 바뀌면 감지
+ *
+ * @author rua
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.BugJava.EduConnect.qnaboard.integration.QnaQueryPlanTest$CapturingInspector")
+@ActiveProfiles("test")
+@Transactional
+class QnaQueryPlanTest {
+
+    private static final Pattern SQL_COMMENT = Pattern.compile("^\\s*/\\*.*?\\*/\\s*", Pattern.DOTALL);
+
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private AnswerRepository answerRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManager em;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Long questionId;
+    private Long answerId;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Users user = userRepository.save(Users.builder()
+                .email("plan@test.com")
+                .password("encoded")
+                .name("계획")
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+        for (int i = 0; i < 5; i++) {
+            Question question = questionRepository.save(Question.builder()
+                    .title("Spring 질문 " + i)
+                    .content("내용 " + i)
+                    .track(i % 2 == 0 ? Track.BACKEND : Track.FRONTEND)
+                    .user(user)
+                    .isDeleted(false)
+                    .build());
+            Answer answer = answerRepository.save(Answer.builder()
+                    .content("답변 " + i)
+                    .user(user)
+                    .question(question)
+                    .isDeleted(false)
+                    .build());
+            commentRepository.save(Comment.builder()
+                    .content("댓글 " + i)
+                    .user(user)
+                    .answer(answer)
+                    .isDeleted(false)
+                    .build());
+            questionId = question.getId();
+            answerId = answer.getId();
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("질문 목록/검색/커서/Slice 쿼리는 인덱스 사용")
+    void questionQueriesUseIndexes() {
+        PageRequest latest = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        QuestionSearchRequest byTrack = QuestionSearchRequest.builder().track(Track.BACKEND).build();
+        QuestionSearchRequest byKeyword = QuestionSearchRequest.builder().track(Track.BACKEND).keyword("spring").build();
+
+        assertIndexed(captured(() -> questionRepository.findPage(QuestionSpecs.buildSearch(null), latest)));
+        assertIndexed(captured(() -> questionRepository.findPage(QuestionSpecs.buildSearch(byTrack), latest)));
+        assertIndexed(captured(() -> questionRepository.findPage(QuestionSpecs.buildSearch(byKeyword), latest)));
+        assertIndexed(captured(() -> questionRepository.findSlice(QuestionSpecs.buildSearch(byTrack), latest)));
+        assertIndexed(captured(() -> questionRepository.findLatest(
+                QuestionSpecs.buildSearch(byTrack, new QuestionCursor(LocalDateTime.now(), Long.MAX_VALUE)), 3)));
+        assertIndexed(captured(() -> questionRepository.findResponsesByIds(List.of(questionId))));
+        assertIndexed(captured(() -> questionRepository.findById(questionId)));
+    }
+
+    @Test
+    @DisplayName("질문별 답변, 답변별 댓글 조회는 인덱스 사용")
+    void answerAndCommentQueriesUseIndexes() {
+        assertIndexed(captured(() -> answerRepository.findByQuestionIdAndIsDeletedFalse(questionId)));
+        assertIndexed(captured(() -> answerRepository.countByQuestionIdAndIsDeletedFalse(questionId)));
+        assertIndexed(captured(() -> commentRepository.findByAnswerIdAndIsDeletedFalse(answerId)));
+    }
+
+    private List<String> captured(Runnable call) {
+        CapturingInspector.start();
+        try {
+            call.run();
+            return CapturingInspector.stop();
+        } finally {
+            em.clear();
+        }
+    }
+
+    private void assertIndexed(List<String> statements) {
+        List<String> selects = statements.stream()
+                .map(sql -> SQL_COMMENT.matcher(sql).replaceFirst("").strip()) // use_sql_comments 주석 제거
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("select"))
+                .toList();
+        assertThat(selects).as("수집된 SELECT").isNotEmpty();
+        for (String sql : selects) {
+            String plan = explain(sql);
+            assertThat(plan)
+                    .as("테이블 전체 스캔 없음:%n%s%n---%n%s", sql, plan)
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    // 바인딩 값 없이 계획만 확인 (H2는 준비 시점에 인덱스를 고른다)
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) con -> {
+            try (PreparedStatement ps = con.prepareStatement("EXPLAIN " + sql)) {
+                int params = ps.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= params; i++) {
+                    ps.setObject(i, null);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    /** Hibernate가 실행하는 SQL 수집 (statement_inspector 로 등록) */
+    public static class CapturingInspector implements StatementInspector {
+        private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+        static void start() {
+            STATEMENTS.set(new ArrayList<>());
+        }
+
+        static List<String> stop() {
+            List<String> statements = STATEMENTS.get();
+            STATEMENTS.remove();
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = STATEMENTS.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.BugJava.EduConnect.qnaboard.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.common.service.JwtTokenProvider;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionSearchRequest;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * QnA 커서(keyset) 페이지네이션 통합 테스트
+ *
+ * @author rua
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class QnaScrollIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+
+    private Users student;
+    private String studentToken;
+    private final List<Long> backendIdsNewestFirst = new ArrayList<>();
+    private final List<Long> allIdsNewestFirst = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        student = userRepository.save(Users.builder()
+                .email("scroll@test.com")
+                .password("encoded")
+                .name("커서학생")
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+        studentToken = jwtTokenProvider.createAccessToken(student.getId(), student.getRole());
+
+        // 오래된 것부터 저장 → 최신순 = 역순
+        for (int i = 1; i <= 5; i++) {
+            Track track = i % 2 == 0 ? Track.FRONTEND : Track.BACKEND;
+            Question saved = questionRepository.save(Question.builder()
+                    .title("커서 질문 " + i)
+                    .content("내용 " + i)
+                    .track(track)
+                    .user(student)
+                    .isDeleted(false)
+                    .build());
+            allIdsNewestFirst.add(0, saved.getId());
+            if (track == Track.BACKEND) {
+                backendIdsNewestFirst.add(0, saved.getId());
+            }
+        }
+        // 삭제된 질문은 포함되지 않아야 함
+        questionRepository.save(Question.builder()
+                .title("삭제된 질문").content("내용").track(Track.BACKEND)
+                .user(student).isDeleted(true).build());
+    }
+
+    @Test
+    @DisplayName("커서 목록 - nextCursor로 끝까지 이어서 조회하면 중복/누락 없이 최신순")
+    void scrollAllPages() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/qna/questions/scroll")
+                    .header("Authorization", "Bearer " + studentToken)
+                    .param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode data = readData(request);
+            data.get("content").forEach(item -> ids.add(item.get("id").asLong()));
+            cursor = data.get("nextCursor").isNull() ? null : data.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(ids).containsExactlyElementsOf(allIdsNewestFirst);
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 트랙 필터와 커서를 함께 적용")
+    void scrollSearchWithTrack() throws Exception {
+        QuestionSearchRequest searchRequest = QuestionSearchRequest.builder().track(Track.BACKEND).build();
+
+        JsonNode first = readData(post("/api/qna/questions/search/scroll")
+                .header("Authorization", "Bearer " + studentToken)
+                .param("size", "2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(searchRequest)));
+        JsonNode second = readData(post("/api/qna/questions/search/scroll")
+                .header("Authorization", "Bearer " + studentToken)
+                .param("size", "2")
+                .param("cursor", first.get("nextCursor").asText())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(searchRequest)));
+
+        assertThat(first.get("hasNext").asBoolean()).isTrue();
+        assertThat(second.get("hasNext").asBoolean()).isFalse();
+        assertThat(second.get("nextCursor").isNull()).isTrue();
+        List<Long> ids = new ArrayList<>();
+        first.get("content").forEach(item -> ids.add(item.get("id").asLong()));
+        second.get("content").forEach(item -> ids.add(item.get("id").asLong()));
+        assertThat(ids).containsExactlyElementsOf(backendIdsNewestFirst);
+    }
+
+    @Test
+    @DisplayName("커서 목록 - 잘못된 커서는 400")
+    void invalidCursor() throws Exception {
+        mockMvc.perform(get("/api/qna/questions/scroll")
+                        .header("Authorization", "Bearer " + studentToken)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+    }
+
+    private JsonNode readData(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("data");
+    }
+}
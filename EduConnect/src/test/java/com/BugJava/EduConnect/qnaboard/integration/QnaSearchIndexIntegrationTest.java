@@ -0,0 +1,144 @@
+package com.BugJava.EduConnect.qnaboard.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.common.service.JwtTokenProvider;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionSearchRequest;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.BugJava.EduConnect.qnaboard.service.QuestionSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 메모리 역색인 기반 QnA 검색 통합 테스트
+ * - 트랜잭션 커밋/롤백과 색인 동기화를 확인하기 위해 테스트 자체는 트랜잭션 없이 실행
+ *
+ * @author rua
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QnaSearchIndexIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+    @Autowired private QuestionSearchIndex questionSearchIndex;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private Users student;
+    private String studentToken;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        student = userRepository.save(Users.builder()
+                .email("index@test.com")
+                .password("encoded")
+                .name("색인학생")
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+        studentToken = jwtTokenProvider.createAccessToken(student.getId(), student.getRole());
+
+        save("트랜잭션 전파 질문", "REQUIRES_NEW 사용 시 주의점", Track.BACKEND);
+        save("JPA 질문", "트랜잭션 안에서 지연 로딩", Track.BACKEND);
+        save("React 상태 관리", "트랜잭션과 무관", Track.FRONTEND);
+    }
+
+    @AfterEach
+    void tearDown() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("본문 매칭 + 트랙 필터 + 관련도순 정렬 (제목 매칭이 먼저)")
+    void searchByRelevanceWithTrack() throws Exception {
+        QuestionSearchRequest req = QuestionSearchRequest.builder()
+                .track(Track.BACKEND)
+                .keyword("트랜잭션")
+                .build();
+
+        mockMvc.perform(post("/api/qna/questions/search")
+                        .header("Authorization", "Bearer " + studentToken)
+                        .param("sort", "relevance")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(2))
+                .andExpect(jsonPath("$.data.content[0].title").value("트랜잭션 전파 질문"))
+                .andExpect(jsonPath("$.data.content[1].title").value("JPA 질문"));
+    }
+
+    @Test
+    @DisplayName("커밋 전 저장은 같은 트랜잭션 검색에서만 보이고, 롤백되면 색인에 남지 않음")
+    void uncommittedSaveIsVisibleOnlyInItsTransaction() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            save("롤백될 질문", "흔적없음", Track.BACKEND);
+            assertThat(questionSearchIndex.search("흔적없음", null)).hasSize(1);
+            // 다른 스레드(트랜잭션)에서는 보이지 않음
+            assertThat(CompletableFuture.supplyAsync(() -> questionSearchIndex.search("흔적없음", null)).join())
+                    .isEmpty();
+            status.setRollbackOnly();
+        });
+
+        assertThat(questionSearchIndex.search("흔적없음", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커밋된 저장/삭제는 커밋 이후 다른 트랜잭션의 검색에 반영됨")
+    void committedChangesAreAppliedAfterCommit() {
+        Question saved = save("커밋될 질문", "반영확인", Track.BACKEND);
+        assertThat(questionSearchIndex.search("반영확인", null)).hasSize(1);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            Question question = questionRepository.findById(saved.getId()).orElseThrow();
+            question.softDelete();
+            questionRepository.flush();
+            // 커밋 전이므로 다른 트랜잭션에는 아직 남아 있음
+            assertThat(CompletableFuture.supplyAsync(() -> questionSearchIndex.search("반영확인", null)).join())
+                    .hasSize(1);
+        });
+
+        assertThat(questionSearchIndex.search("반영확인", null)).isEmpty();
+    }
+
+    private Question save(String title, String content, Track track) {
+        return questionRepository.save(Question.builder()
+                .title(title)
+                .content(content)
+                .track(track)
+                .user(student)
+                .isDeleted(false)
+                .build());
+    }
+}
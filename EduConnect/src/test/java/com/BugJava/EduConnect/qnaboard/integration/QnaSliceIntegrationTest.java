@@ -0,0 +1,155 @@
+package com.BugJava.EduConnect.qnaboard.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.common.service.JwtTokenProvider;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionSearchRequest;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.BugJava.EduConnect.qnaboard.service.QuestionCountCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * QnA Slice 모드(count 쿼리 없음) + 근사 총 개수 캐시 통합 테스트
+ *
+ * @author rua
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class QnaSliceIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+    @Autowired private QuestionCountCache questionCountCache;
+
+    private String studentToken;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+        // 다른 테스트가 repository로 직접 저장한 데이터의 개수가 남아 있지 않도록
+        questionCountCache.invalidateAll();
+
+        Users student = userRepository.save(Users.builder()
+                .email("slice@test.com")
+                .password("encoded")
+                .name("슬라이스학생")
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+        studentToken = jwtTokenProvider.createAccessToken(student.getId(), student.getRole());
+
+        for (int i = 1; i <= 5; i++) {
+            questionRepository.save(Question.builder()
+                    .title(i <= 3 ? "Spring 질문 " + i : "React 질문 " + i)
+                    .content("내용 " + i)
+                    .track(i <= 3 ? Track.BACKEND : Track.FRONTEND)
+                    .user(student)
+                    .isDeleted(false)
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("Slice 목록 - hasNext만 반환하고 기본적으로 총 개수는 없음")
+    void sliceWithoutTotal() throws Exception {
+        mockMvc.perform(get("/api/qna/questions/slice")
+                        .header("Authorization", "Bearer " + studentToken)
+                        .param("page", "0")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.approximateTotal").value(nullValue()));
+
+        mockMvc.perform(get("/api/qna/questions/slice")
+                        .header("Authorization", "Bearer " + studentToken)
+                        .param("page", "2")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Slice 검색 - withTotal=true면 (track, keyword) 근사 총 개수 포함")
+    void sliceSearchWithTotal() throws Exception {
+        QuestionSearchRequest req = QuestionSearchRequest.builder()
+                .track(Track.BACKEND)
+                .keyword("spring")
+                .build();
+
+        mockMvc.perform(post("/api/qna/questions/search/slice")
+                        .header("Authorization", "Bearer " + studentToken)
+                        .param("size", "2")
+                        .param("withTotal", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.approximateTotal").value(3));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 무효화는 커밋 이후에 일어나므로 테스트 트랜잭션 없이
+    @DisplayName("질문 등록이 커밋되면 해당 트랙의 캐시된 총 개수가 무효화됨")
+    void createInvalidatesCachedTotal() throws Exception {
+        try {
+            assertCreateInvalidatesCachedTotal();
+        } finally {
+            questionRepository.deleteAll();
+            userRepository.deleteAll();
+            questionCountCache.invalidateAll();
+        }
+    }
+
+    private void assertCreateInvalidatesCachedTotal() throws Exception {
+        mockMvc.perform(get("/api/qna/questions/slice")
+                        .header("Authorization", "Bearer " + studentToken)
+                        .param("withTotal", "true"))
+                .andExpect(jsonPath("$.data.approximateTotal").value(5));
+
+        mockMvc.perform(post("/api/qna/questions")
+                        .header("Authorization", "Bearer " + studentToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "title", "새 Spring 질문",
+                                "content", "내용",
+                                "track", "BACKEND"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/qna/questions/slice")
+                        .header("Authorization", "Bearer " + studentToken)
+                        .param("withTotal", "true"))
+                .andExpect(jsonPath("$.data.approximateTotal").value(6));
+    }
+}
@@ -0,0 +1,180 @@
+package com.BugJava.EduConnect.qnaboard.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.qnaboard.entity.Answer;
+import com.BugJava.EduConnect.qnaboard.entity.Comment;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.repository.AnswerRepository;
+import com.BugJava.EduConnect.qnaboard.repository.CommentRepository;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.BugJava.EduConnect.qnaboard.service.AnswerService;
+import com.BugJava.EduConnect.qnaboard.service.QnaPurgeJob;
+import com.BugJava.EduConnect.qnaboard.service.QuestionService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 질문/답변 삭제 시 자식 soft delete cascade와 보존 기간 경과 행 영구 삭제(QnaPurgeJob) 테스트
+ *
+ * @author rua
+ */
+@SpringBootTest(properties = {"qna.purge.retention-days=30", "qna.purge.chunk-size=2"})
+@ActiveProfiles("test")
+@Transactional
+class QnaSoftDeleteIntegrationTest {
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private AnswerRepository answerRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private QuestionService questionService;
+    @Autowired private AnswerService answerService;
+    @Autowired private QnaPurgeJob qnaPurgeJob;
+
+    private Users student;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        student = userRepository.save(Users.builder()
+                .email("purge@test.com")
+                .password("encoded")
+                .name("삭제학생")
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+    }
+
+    @Test
+    @DisplayName("질문 삭제 - 답변과 댓글이 같은 삭제 시각으로 soft delete")
+    void deleteQuestionCascades() {
+        // given
+        Question question = saveQuestion(null);
+        Answer first = saveAnswer(question, null);
+        Answer second = saveAnswer(question, null);
+        Comment comment = saveComment(first, null);
+
+        // when
+        questionService.deleteQuestion(student.getId(), question.getId());
+        entityManager.clear();
+
+        // then
+        LocalDateTime deletedAt = questionRepository.findById(question.getId()).orElseThrow().getDeletedAt();
+        assertThat(answerRepository.findAllById(List.of(first.getId(), second.getId())))
+                .allSatisfy(a -> {
+                    assertThat(a.isDeleted()).isTrue();
+                    assertThat(a.getDeletedAt()).isEqualTo(deletedAt);
+                });
+        Comment deletedComment = commentRepository.findById(comment.getId()).orElseThrow();
+        assertThat(deletedComment.isDeleted()).isTrue();
+        assertThat(deletedComment.getDeletedAt()).isEqualTo(deletedAt);
+    }
+
+    @Test
+    @DisplayName("답변 삭제 - 댓글 soft delete 후 질문의 답변/댓글 카운터를 함께 보정")
+    void deleteAnswerCascadesAndAdjustsCounters() {
+        // given - 카운터는 서비스를 거치지 않았으므로 직접 맞춘다.
+        Question question = saveQuestion(null);
+        Answer answer = saveAnswer(question, null);
+        saveComment(answer, null);
+        saveComment(answer, null);
+        questionRepository.addCounts(question.getId(), 1, 2);
+
+        // when
+        answerService.deleteAnswer(answer.getId(), student.getId());
+        entityManager.clear();
+
+        // then
+        assertThat(commentRepository.findByAnswerIdAndIsDeletedFalse(answer.getId())).isEmpty();
+        Question reloaded = questionRepository.findById(question.getId()).orElseThrow();
+        assertThat(reloaded.getAnswerCount()).isZero();
+        assertThat(reloaded.getCommentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("영구 삭제 - 보존 기간이 지난 행만 chunk 단위로 삭제, 살아 있는 자식이 남은 부모는 유지")
+    void purgeRemovesExpiredRowsOnly() {
+        // given
+        LocalDateTime expired = LocalDateTime.now().minusDays(31);
+        LocalDateTime recent = LocalDateTime.now().minusDays(1);
+
+        // 전체가 보존 기간 경과 → 모두 삭제 (댓글 3개 = chunk 2회)
+        Question purged = saveQuestion(expired);
+        Answer purgedAnswer = saveAnswer(purged, expired);
+        saveComment(purgedAnswer, expired);
+        saveComment(purgedAnswer, expired);
+        saveComment(purgedAnswer, expired);
+
+        // 질문은 경과했지만 최근에 삭제된 답변이 남아 있음 → 질문 유지
+        Question kept = saveQuestion(expired);
+        Answer recentAnswer = saveAnswer(kept, recent);
+
+        // 삭제되지 않은 질문
+        Question live = saveQuestion(null);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        QnaPurgeJob.Result result = qnaPurgeJob.purge();
+
+        // then
+        assertThat(result.comments()).isEqualTo(3);
+        assertThat(result.answers()).isEqualTo(1);
+        assertThat(result.questions()).isEqualTo(1);
+        assertThat(questionRepository.existsById(purged.getId())).isFalse();
+        assertThat(answerRepository.existsById(purgedAnswer.getId())).isFalse();
+        assertThat(questionRepository.existsById(kept.getId())).isTrue();
+        assertThat(answerRepository.existsById(recentAnswer.getId())).isTrue();
+        assertThat(questionRepository.existsById(live.getId())).isTrue();
+    }
+
+    private Question saveQuestion(LocalDateTime deletedAt) {
+        return questionRepository.save(Question.builder()
+                .title("질문")
+                .content("내용")
+                .track(Track.BACKEND)
+                .user(student)
+                .isDeleted(deletedAt != null)
+                .deletedAt(deletedAt)
+                .build());
+    }
+
+    private Answer saveAnswer(Question question, LocalDateTime deletedAt) {
+        return answerRepository.save(Answer.builder()
+                .content("답변")
+                .user(student)
+                .question(question)
+                .isDeleted(deletedAt != null)
+                .deletedAt(deletedAt)
+                .build());
+    }
+
+    private Comment saveComment(Answer answer, LocalDateTime deletedAt) {
+        return commentRepository.save(Comment.builder()
+                .content("댓글")
+                .user(student)
+                .answer(answer)
+                .isDeleted(deletedAt != null)
+                .deletedAt(deletedAt)
+                .build());
+    }
+}
@@ -0,0 +1,139 @@
+package com.BugJava.EduConnect.qnaboard.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.common.service.JwtTokenProvider;
+import com.BugJava.EduConnect.qnaboard.dto.AnswerCreateRequest;
+import com.BugJava.EduConnect.qnaboard.dto.CommentCreateRequest;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.repository.AnswerRepository;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.BugJava.EduConnect.qnaboard.service.AnswerService;
+import com.BugJava.EduConnect.qnaboard.service.CommentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 질문 스레드(질문 + 답변 + 댓글) 한 번에 조회 통합 테스트
+ *
+ * @author rua
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class QnaThreadIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private AnswerRepository answerRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+    @Autowired private AnswerService answerService;
+    @Autowired private CommentService commentService;
+
+    private Long userId;
+    private Long questionId;
+    private String studentToken;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Users student = userRepository.save(Users.builder()
+                .email("thread@test.com")
+                .password("encoded")
+                .name("스레드학생")
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+        userId = student.getId();
+        studentToken = jwtTokenProvider.createAccessToken(student.getId(), student.getRole());
+
+        questionId = questionRepository.save(Question.builder()
+                .title("스레드 질문")
+                .content("내용")
+                .track(Track.BACKEND)
+                .user(student)
+                .isDeleted(false)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("질문 + 답변(작성 순) + 답변별 댓글을 한 응답으로, 삭제된 답변/댓글은 제외")
+    void threadContainsAnswersAndComments() throws Exception {
+        // given
+        answerService.createAnswer(questionId, userId, answerRequest("첫 답변"));
+        answerService.createAnswer(questionId, userId, answerRequest("둘째 답변"));
+        answerService.createAnswer(questionId, userId, answerRequest("삭제될 답변"));
+        var answers = answerRepository.findThreadAnswers(questionId);
+        Long first = answers.get(0).getId();
+        Long second = answers.get(1).getId();
+        answerService.deleteAnswer(answers.get(2).getId(), userId);
+
+        commentService.createComment(first, userId, commentRequest("댓글 1"));
+        commentService.createComment(first, userId, commentRequest("댓글 2"));
+        commentService.createComment(second, userId, commentRequest("삭제될 댓글"));
+        Long deletedComment = commentService.getComments(second).get(0).getId();
+        commentService.deleteComment(deletedComment, userId);
+
+        // when & then
+        mockMvc.perform(get("/api/qna/questions/{id}/thread", questionId)
+                        .header("Authorization", "Bearer " + studentToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.question.title").value("스레드 질문"))
+                .andExpect(jsonPath("$.data.question.answerCount").value(2))
+                .andExpect(jsonPath("$.data.answers.length()").value(2))
+                .andExpect(jsonPath("$.data.answers[0].content").value("첫 답변"))
+                .andExpect(jsonPath("$.data.answers[0].writerName").value("스레드학생"))
+                .andExpect(jsonPath("$.data.answers[0].commentCount").value(2))
+                .andExpect(jsonPath("$.data.answers[0].comments[0].content").value("댓글 1"))
+                .andExpect(jsonPath("$.data.answers[0].comments[1].content").value("댓글 2"))
+                .andExpect(jsonPath("$.data.answers[1].content").value("둘째 답변"))
+                .andExpect(jsonPath("$.data.answers[1].commentCount").value(0))
+                .andExpect(jsonPath("$.data.answers[1].comments.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("답변이 없는 질문은 빈 목록")
+    void threadWithoutAnswers() throws Exception {
+        mockMvc.perform(get("/api/qna/questions/{id}/thread", questionId)
+                        .header("Authorization", "Bearer " + studentToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.question.id").value(questionId))
+                .andExpect(jsonPath("$.data.answers.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("없는 질문의 스레드는 404")
+    void threadOfMissingQuestion() throws Exception {
+        mockMvc.perform(get("/api/qna/questions/{id}/thread", questionId + 1000)
+                        .header("Authorization", "Bearer " + studentToken))
+                .andExpect(status().isNotFound());
+    }
+
+    private AnswerCreateRequest answerRequest(String content) throws Exception {
+        return objectMapper.readValue("{\"content\":\"" + content + "\"}", AnswerCreateRequest.class);
+    }
+
+    private CommentCreateRequest commentRequest(String content) throws Exception {
+        return objectMapper.readValue("{\"content\":\"" + content + "\"}", CommentCreateRequest.class);
+    }
+}
@@ -0,0 +1,201 @@
+package com.BugJava.EduConnect.qnaboard.integration;
+
+import com.BugJava.EduConnect.auth.entity.Users;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.qnaboard.dto.AnswerCreateRequest;
+import com.BugJava.EduConnect.qnaboard.dto.AnswerUpdateRequest;
+import com.BugJava.EduConnect.qnaboard.dto.CommentCreateRequest;
+import com.BugJava.EduConnect.qnaboard.dto.QuestionUpdateRequest;
+import com.BugJava.EduConnect.qnaboard.entity.Answer;
+import com.BugJava.EduConnect.qnaboard.entity.Comment;
+import com.BugJava.EduConnect.qnaboard.entity.Question;
+import com.BugJava.EduConnect.qnaboard.exception.AnswerNotFoundException;
+import com.BugJava.EduConnect.qnaboard.exception.QuestionNotFoundException;
+import com.BugJava.EduConnect.qnaboard.repository.AnswerRepository;
+import com.BugJava.EduConnect.qnaboard.repository.CommentRepository;
+import com.BugJava.EduConnect.qnaboard.repository.QuestionRepository;
+import com.BugJava.EduConnect.qnaboard.service.AnswerService;
+import com.BugJava.EduConnect.qnaboard.service.CommentService;
+import com.BugJava.EduConnect.qnaboard.service.QuestionService;
+import com.BugJava.EduConnect.support.SqlStatementCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * QnA 쓰기 경로 SQL 예산 테스트
+ * - 서비스 호출 + flush(커밋 시점의 INSERT/UPDATE)까지의 statement 수를 고정한다.
+ * - 시퀀스 id 선할당은 SqlStatementCounter에서 제외
+ *
+ * @author rua
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class QnaWriteStatementBudgetTest {
+
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private EntityManager entityManager;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private AnswerRepository answerRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private QuestionService questionService;
+    @Autowired private AnswerService answerService;
+    @Autowired private CommentService commentService;
+
+    private SqlStatementCounter counter;
+    private Users student;
+    private Question question;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+        counter = new SqlStatementCounter(entityManager);
+
+        student = userRepository.save(Users.builder()
+                .email("budget@test.com")
+                .password("encoded")
+                .name("예산학생")
+                .role(Role.STUDENT)
+                .track(Track.BACKEND)
+                .isDeleted(false)
+                .build());
+        question = questionRepository.save(Question.builder()
+                .title("예산 질문")
+                .content("내용")
+                .track(Track.BACKEND)
+                .user(student)
+                .isDeleted(false)
+                .build());
+    }
+
+    @Test
+    @DisplayName("답변 등록: 카운터 UPDATE(존재 확인 겸용) + INSERT = 2")
+    void createAnswer() throws Exception {
+        AnswerCreateRequest req = request("{\"content\":\"답변\"}", AnswerCreateRequest.class);
+
+        counter.expect(2, () -> {
+            answerService.createAnswer(question.getId(), student.getId(), req);
+            entityManager.flush();
+            return null;
+        });
+
+        assertThat(questionRepository.findById(question.getId()).orElseThrow().getAnswerCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 질문에 답변 등록은 404, 카운터 변화 없음")
+    void createAnswerOnDeletedQuestion() throws Exception {
+        question.softDelete();
+        entityManager.flush();
+        AnswerCreateRequest req = request("{\"content\":\"답변\"}", AnswerCreateRequest.class);
+
+        assertThatThrownBy(() -> answerService.createAnswer(question.getId(), student.getId(), req))
+                .isInstanceOf(QuestionNotFoundException.class);
+        assertThat(questionRepository.findById(question.getId()).orElseThrow().getAnswerCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 등록: 질문 id 조회(존재 확인 겸용) + 카운터 UPDATE + INSERT = 3")
+    void createComment() throws Exception {
+        Answer answer = saveAnswer();
+        CommentCreateRequest req = request("{\"content\":\"댓글\"}", CommentCreateRequest.class);
+
+        counter.expect(3, () -> {
+            commentService.createComment(answer.getId(), student.getId(), req);
+            entityManager.flush();
+            return null;
+        });
+
+        assertThat(questionRepository.findById(question.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 답변에 댓글 등록은 404")
+    void createCommentOnMissingAnswer() throws Exception {
+        CommentCreateRequest req = request("{\"content\":\"댓글\"}", CommentCreateRequest.class);
+
+        assertThatThrownBy(() -> commentService.createComment(-1L, student.getId(), req))
+                .isInstanceOf(AnswerNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("질문 수정 = 2 (SELECT + 변경 감지 UPDATE), 질문 삭제 = 4 (+ 댓글/답변 cascade 벌크 UPDATE)")
+    void updateAndDeleteQuestion() throws Exception {
+        QuestionUpdateRequest req = request(
+                "{\"title\":\"수정\",\"content\":\"수정 내용\",\"track\":\"BACKEND\"}", QuestionUpdateRequest.class);
+
+        counter.expect(2, () -> {
+            questionService.updateQuestion(student.getId(), question.getId(), req);
+            entityManager.flush();
+            return null;
+        });
+        counter.expect(4, () -> {
+            questionService.deleteQuestion(student.getId(), question.getId());
+            entityManager.flush();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("답변 수정 = 2, 답변 삭제 = 4 (SELECT + UPDATE + 댓글 cascade UPDATE + 카운터 UPDATE)")
+    void updateAndDeleteAnswer() throws Exception {
+        Answer answer = saveAnswer();
+        AnswerUpdateRequest req = request("{\"content\":\"수정\"}", AnswerUpdateRequest.class);
+
+        counter.expect(2, () -> {
+            answerService.updateAnswer(answer.getId(), student.getId(), req);
+            entityManager.flush();
+            return null;
+        });
+        counter.expect(4, () -> {
+            answerService.deleteAnswer(answer.getId(), student.getId());
+            entityManager.flush();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("댓글 삭제: 답변 join SELECT + UPDATE + 카운터 UPDATE = 3")
+    void deleteComment() throws Exception {
+        Answer answer = saveAnswer();
+        Comment comment = commentRepository.save(Comment.builder()
+                .content("댓글")
+                .user(student)
+                .answer(answer)
+                .isDeleted(false)
+                .build());
+
+        counter.expect(3, () -> {
+            commentService.deleteComment(comment.getId(), student.getId());
+            entityManager.flush();
+            return null;
+        });
+    }
+
+    private Answer saveAnswer() {
+        return answerRepository.save(Answer.builder()
+                .content("답변")
+                .user(student)
+                .question(question)
+                .isDeleted(false)
+                .build());
+    }
+
+    private <T> T request(String json, Class<T> type) throws Exception {
+        return objectMapper.readValue(json, type);
+    }
+}
@@ -0,0 +1,83 @@
+package com.BugJava.EduConnect.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate Statistics 기반 SQL 실행 횟수 검증 유틸리티
+ * - 엔드포인트/서비스 호출 하나가 실행하는 JDBC statement 수를 정확히 검증 → N+1 회귀를 테스트 실패로 잡는다.
+ * - hibernate.generate_statistics=true 필요 (application-test.properties)
+ * - 통계는 SessionFactory 전역이므로 측정 구간에 다른 스레드의 쿼리가 섞이지 않는 테스트에서 사용
+ * - 시퀀스 id 선할당(50건마다 1회)은 어느 호출에서 일어날지 정해져 있지 않으므로 제외한다.
+ *   (SequenceCallInspector를 statement_inspector로 등록한 경우)
+ *
+ * 예)
+ *   SqlStatementCounter counter = new SqlStatementCounter(entityManager);
+ *   counter.expect(3, () -> mockMvc.perform(get(...)).andExpect(status().isOk()));
+ *
+ * @author rua
+ */
+public final class SqlStatementCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+    private long sequenceCallsAtReset;
+
+    public SqlStatementCounter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("hibernate.generate_statistics=true 설정이 필요합니다.");
+        }
+    }
+
+    /**
+     * action 실행 중 SQL statement가 정확히 expected개인지 검증하고 결과를 반환
+     * - 트랜잭션 안이면 먼저 flush/clear → 준비 단계의 쓰기가 섞이지 않고, 조회가 1차 캐시에서 끝나지 않는다.
+     */
+    public <T> T expect(long expected, Callable<T> action) throws Exception {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+        reset();
+        T result = action.call();
+        assertThat(count())
+                .as("SQL statement 수 (N+1 여부 확인)")
+                .isEqualTo(expected);
+        return result;
+    }
+
+    /** reset() 이후 실행된 statement 수 (시퀀스 선할당 제외) */
+    public long count() {
+        return statistics.getPrepareStatementCount() - (SequenceCallInspector.CALLS.get() - sequenceCallsAtReset);
+    }
+
+    public void reset() {
+        statistics.clear();
+        sequenceCallsAtReset = SequenceCallInspector.CALLS.get();
+    }
+
+    /** 시퀀스 호출 수 집계 (hibernate.session_factory.statement_inspector로 등록, SQL은 그대로 반환) */
+    public static class SequenceCallInspector implements StatementInspector {
+        private static final AtomicLong CALLS = new AtomicLong();
+
+        @Override
+        public String inspect(String sql) {
+            String lower = sql.toLowerCase(Locale.ROOT);
+            if (lower.contains("next value for") || lower.contains("nextval(")) {
+                CALLS.incrementAndGet();
+            }
+            return sql;
+        }
+    }
+}
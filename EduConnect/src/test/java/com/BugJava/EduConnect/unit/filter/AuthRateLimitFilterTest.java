@@ -0,0 +1,109 @@
+package com.BugJava.EduConnect.unit.filter;
+
+import com.BugJava.EduConnect.common.filter.AuthRateLimitFilter;
+import com.BugJava.EduConnect.common.service.TokenBucketRateLimiter;
+import com.BugJava.EduConnect.common.service.TokenBucketRateLimiter.Limit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthRateLimitFilterTest {
+
+    private AuthRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new AuthRateLimitFilter(
+                new TokenBucketRateLimiter(100, new SimpleMeterRegistry()),
+                new ObjectMapper(),
+                new Limit("auth-ip", 2, 60_000),
+                new Limit("auth-email", 100, 60_000),
+                Set.of("10.0.0.1"),
+                64);
+    }
+
+    @Test
+    @DisplayName("본문이 상한을 넘으면 413, 컨트롤러까지 가지 않는다")
+    void rejectsOversizedBody() throws Exception {
+        // given
+        MockHttpServletRequest request = login("203.0.113.1", "{\"email\":\"" + "a".repeat(100) + "@test.com\"}");
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("통과한 요청의 본문은 컨트롤러에서 다시 읽을 수 있다")
+    void bodyIsReadableDownstream() throws Exception {
+        // given
+        String body = "{\"email\":\"a@test.com\"}";
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(login("203.0.113.1", body), new MockHttpServletResponse(), chain);
+
+        // then
+        byte[] downstream = chain.getRequest().getInputStream().readAllBytes();
+        assertThat(new String(downstream, StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시를 거친 요청은 X-Forwarded-For의 클라이언트 IP별로 제한")
+    void trustedProxyUsesForwardedClientIp() throws Exception {
+        // when - 같은 프록시 뒤의 서로 다른 클라이언트 3명이 각 2회
+        for (String client : new String[]{"198.51.100.1", "198.51.100.2", "198.51.100.3"}) {
+            for (int i = 0; i < 2; i++) {
+                MockHttpServletRequest request = login("10.0.0.1", "{}");
+                request.addHeader("X-Forwarded-For", client);
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                filter.doFilter(request, response, new MockFilterChain());
+
+                // then
+                assertThat(response.getStatus()).isEqualTo(200);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 연결이 보낸 X-Forwarded-For는 무시")
+    void untrustedForwardedHeaderIsIgnored() throws Exception {
+        // given - 헤더를 바꿔 가며 보내도 연결 주소 하나로 집계
+        int rejected = 0;
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = login("203.0.113.9", "{}");
+            request.addHeader("X-Forwarded-For", "198.51.100." + i);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            if (response.getStatus() == 429) {
+                rejected++;
+            }
+        }
+
+        // then
+        assertThat(rejected).isEqualTo(1);
+    }
+
+    private MockHttpServletRequest login(String remoteAddr, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,93 @@
+package com.BugJava.EduConnect.unit.filter;
+
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.common.dto.JwtPrincipal;
+import com.BugJava.EduConnect.common.filter.JwtAuthenticationFilter;
+import com.BugJava.EduConnect.common.service.JwtTokenProvider;
+import com.BugJava.EduConnect.common.service.TokenBlacklistService;
+import com.BugJava.EduConnect.common.service.UserRevocationService;
+import com.BugJava.EduConnect.common.util.TokenDigest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock private JwtTokenProvider jwtTokenProvider;
+    @Mock private TokenBlacklistService tokenBlacklistService;
+    @Mock private UserRevocationService userRevocationService;
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, tokenBlacklistService, userRevocationService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("요청당 digest는 한 번만 계산해 검증 캐시와 블랙리스트 조회에 같이 사용")
+    void digestComputedOncePerRequest() throws Exception {
+        // given
+        JwtPrincipal principal = new JwtPrincipal(1L, Role.STUDENT, System.currentTimeMillis() + 60_000, 0L, "jti");
+        when(jwtTokenProvider.verify(eq(TOKEN), any(TokenDigest.class))).thenReturn(Optional.of(principal));
+        when(tokenBlacklistService.isBlacklisted(any(TokenDigest.class))).thenReturn(false);
+
+        // when
+        filter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        ArgumentCaptor<TokenDigest> verified = ArgumentCaptor.forClass(TokenDigest.class);
+        ArgumentCaptor<TokenDigest> checked = ArgumentCaptor.forClass(TokenDigest.class);
+        verify(jwtTokenProvider).verify(eq(TOKEN), verified.capture());
+        verify(tokenBlacklistService).isBlacklisted(checked.capture());
+        assertThat(checked.getValue()).isSameAs(verified.getValue());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("블랙리스트 토큰은 인증하지 않고 같은 digest로 검증 캐시에서 제거")
+    void blacklistedTokenEvictedByDigest() throws Exception {
+        // given
+        JwtPrincipal principal = new JwtPrincipal(1L, Role.STUDENT, System.currentTimeMillis() + 60_000, 0L, "jti");
+        when(jwtTokenProvider.verify(eq(TOKEN), any(TokenDigest.class))).thenReturn(Optional.of(principal));
+        when(tokenBlacklistService.isBlacklisted(any(TokenDigest.class))).thenReturn(true);
+
+        // when
+        filter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        verify(jwtTokenProvider).evict(TokenDigest.of(TOKEN));
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/qna/questions");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        return request;
+    }
+}
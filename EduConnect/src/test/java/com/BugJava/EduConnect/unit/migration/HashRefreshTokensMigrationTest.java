@@ -0,0 +1,45 @@
+package com.BugJava.EduConnect.unit.migration;
+
+import com.BugJava.EduConnect.common.util.TokenDigest;
+import db.migration.V5__hash_refresh_tokens;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HashRefreshTokensMigrationTest {
+
+    @Test
+    @DisplayName("저장된 refresh token 원문을 TokenDigest.toHex()와 같은 형식으로 변환")
+    void replacesRawTokensWithDigest() throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:hash-refresh-tokens-migration")) {
+            // given
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table refresh_token (username varchar(255) primary key, " +
+                        "token varchar(1000) not null, expiry bigint not null)");
+                statement.execute("insert into refresh_token values ('1', 'raw.refresh.token', 0)");
+            }
+            Context context = mock(Context.class);
+            when(context.getConnection()).thenReturn(connection);
+
+            // when
+            new V5__hash_refresh_tokens().migrate(context);
+
+            // then
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("select token from refresh_token where username = '1'")) {
+                rs.next();
+                assertThat(rs.getString(1)).isEqualTo(TokenDigest.of("raw.refresh.token").toHex());
+                assertThat(TokenDigest.fromHex(rs.getString(1))).isEqualTo(TokenDigest.of("raw.refresh.token"));
+            }
+        }
+    }
+}
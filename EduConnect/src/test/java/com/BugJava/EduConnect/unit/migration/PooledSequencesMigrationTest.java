@@ -0,0 +1,49 @@
+package com.BugJava.EduConnect.unit.migration;
+
+import db.migration.V2__pooled_sequences;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PooledSequencesMigrationTest {
+
+    @Test
+    @DisplayName("기존 데이터가 있으면 max(id) 이후부터, 빈 테이블이면 1부터 id를 발급하도록 시퀀스 생성")
+    void sequencesStartAfterExistingIds() throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:pooled-sequences-migration")) {
+            // given - users에만 기존 데이터 (max id = 120)
+            try (Statement statement = connection.createStatement()) {
+                for (String table : new String[]{"users", "question", "answers", "comments", "posts", "fb_comments"}) {
+                    statement.execute("create table " + table + " (id bigint primary key)");
+                }
+                statement.execute("insert into users (id) values (1), (120)");
+            }
+            Context context = mock(Context.class);
+            when(context.getConnection()).thenReturn(connection);
+
+            // when
+            new V2__pooled_sequences().migrate(context);
+
+            // then - pooled optimizer는 첫 값을 구간의 끝으로 보고 (값 - 49 ~ 값)을 사용
+            assertThat(nextValue(connection, "users_seq")).isEqualTo(170); // 121 ~ 170
+            assertThat(nextValue(connection, "question_seq")).isEqualTo(50); // 1 ~ 50
+        }
+    }
+
+    private long nextValue(Connection connection, String sequence) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select next value for " + sequence)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.BugJava.EduConnect.unit.service;
+
+import com.BugJava.EduConnect.common.service.ExpiryWheel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiryWheelTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExpiryWheel expiryWheel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        expiryWheel = new ExpiryWheel(1000, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목만 콜백 실행")
+    void advanceEvictsOnlyExpiredEntries() {
+        // given
+        List<String> expired = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        expiryWheel.schedule(now - 5_000, () -> expired.add("past"));
+        expiryWheel.schedule(now + 60_000, () -> expired.add("future"));
+
+        // when
+        expiryWheel.advance();
+
+        // then
+        assertThat(expired).containsExactly("past");
+        assertThat(expiryWheel.liveEntries()).isEqualTo(1);
+        assertThat(meterRegistry.get("expiry.wheel.tick.evictions").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("expiry.wheel.evictions").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("취소된 항목은 만료되어도 콜백 미실행")
+    void cancelledEntryIsNotEvicted() {
+        // given
+        List<String> expired = new ArrayList<>();
+        ExpiryWheel.Registration registration =
+                expiryWheel.schedule(System.currentTimeMillis() - 5_000, () -> expired.add("cancelled"));
+
+        // when
+        registration.cancel();
+        registration.cancel(); // 중복 취소는 무시
+        expiryWheel.advance();
+
+        // then
+        assertThat(expired).isEmpty();
+        assertThat(expiryWheel.liveEntries()).isZero();
+        assertThat(meterRegistry.get("expiry.wheel.live.entries").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소하면 만료 시각을 기다리지 않고 버킷에서 바로 빠짐 (잦은 갱신 + 긴 TTL)")
+    void cancelRemovesFromBucket() {
+        // given - 같은 키를 1,000번 갱신: 매번 이전 등록을 취소하고 새로 등록
+        long expiresAt = System.currentTimeMillis() + 7 * 24 * 3_600_000L;
+        ExpiryWheel.Registration current = null;
+        for (int i = 0; i < 1_000; i++) {
+            if (current != null) {
+                current.cancel();
+            }
+            current = expiryWheel.schedule(expiresAt + i * 1_000L, () -> { });
+        }
+
+        // then - 마지막 등록 하나만 남음
+        assertThat(expiryWheel.liveEntries()).isEqualTo(1);
+        assertThat(meterRegistry.get("expiry.wheel.buckets").gauge().value()).isEqualTo(1.0);
+
+        // when
+        current.cancel();
+
+        // then
+        assertThat(meterRegistry.get("expiry.wheel.buckets").gauge().value()).isZero();
+    }
+}
@@ -7,6 +7,7 @@ import com.BugJava.EduConnect.freeboard.domain.FbPost;
 import com.BugJava.EduConnect.freeboard.dto.FbPostRequest;
 import com.BugJava.EduConnect.freeboard.dto.FbPostResponse;
 import com.BugJava.EduConnect.freeboard.exception.PostNotFoundException;
+import com.BugJava.EduConnect.freeboard.repository.FbCommentRepository;
 import com.BugJava.EduConnect.freeboard.repository.FbPostRepository;
 import com.BugJava.EduConnect.freeboard.service.FbPostService;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +34,9 @@ class FbPostServiceTest {
     @Mock
     private FbPostRepository fbPostRepository;
 
+    @Mock
+    private FbCommentRepository fbCommentRepository;
+
     @Mock
     private UserRepository userRepository;
 
@@ -148,15 +152,16 @@ class FbPostServiceTest {
     void deletePost() {
         // given
         Long postId = 1L;
-        FbPost post = FbPost.builder().id(postId).title("title").content("content").user(testUser).build();
-        when(fbPostRepository.findWithCommentsById(postId)).thenReturn(Optional.of(post));
+        when(fbPostRepository.findOwnerIdById(postId)).thenReturn(Optional.of(testUserId));
 
         // when
         fbPostService.deletePost(postId, testUserId);
 
         // then
-        verify(authorizationUtil).checkOwnerOrAdmin(testUser.getId());
-        verify(fbPostRepository).delete(post);
+        verify(authorizationUtil).checkOwnerOrAdmin(testUserId);
+        verify(fbCommentRepository).bulkDeleteByPostId(postId);
+        verify(fbPostRepository).bulkDeleteById(postId);
+        verify(fbPostRepository, never()).findWithCommentsById(any());
     }
 
     @Test
@@ -164,12 +169,27 @@ class FbPostServiceTest {
     void deletePost_accessDenied() {
         // given
         Long postId = 1L;
-        FbPost post = FbPost.builder().id(postId).title("title").content("content").user(testUser).build();
-        when(fbPostRepository.findWithCommentsById(postId)).thenReturn(Optional.of(post));
-        doThrow(new AccessDeniedException("권한이 없습니다.")).when(authorizationUtil).checkOwnerOrAdmin(testUser.getId());
+        when(fbPostRepository.findOwnerIdById(postId)).thenReturn(Optional.of(testUserId));
+        doThrow(new AccessDeniedException("권한이 없습니다.")).when(authorizationUtil).checkOwnerOrAdmin(testUserId);
 
         // when & then
         assertThatThrownBy(() -> fbPostService.deletePost(postId, testUserId))
                 .isInstanceOf(AccessDeniedException.class);
+        verify(fbCommentRepository, never()).bulkDeleteByPostId(any());
+        verify(fbPostRepository, never()).bulkDeleteById(any());
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 - 없는 게시글")
+    void deletePost_notFound() {
+        // given
+        Long postId = 1L;
+        when(fbPostRepository.findOwnerIdById(postId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> fbPostService.deletePost(postId, testUserId))
+                .isInstanceOf(PostNotFoundException.class);
+        verify(fbCommentRepository, never()).bulkDeleteByPostId(any());
+        verify(fbPostRepository, never()).bulkDeleteById(any());
     }
-}
\ No newline at end of file
+}
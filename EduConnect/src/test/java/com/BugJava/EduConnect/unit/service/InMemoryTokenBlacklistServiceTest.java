@@ -0,0 +1,88 @@
+package com.BugJava.EduConnect.unit.service;
+
+import com.BugJava.EduConnect.common.service.ExpiryWheel;
+import com.BugJava.EduConnect.common.service.InMemoryTokenBlacklistService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryTokenBlacklistServiceTest {
+
+    private ExpiryWheel expiryWheel;
+    private InMemoryTokenBlacklistService blacklistService;
+
+    @BeforeEach
+    void setUp() {
+        expiryWheel = new ExpiryWheel(1000, new SimpleMeterRegistry());
+        blacklistService = new InMemoryTokenBlacklistService(10_000, 0.01, expiryWheel);
+    }
+
+    @Test
+    @DisplayName("만료 정리 후 Bloom filter를 재구성해도 살아있는 토큰은 계속 차단")
+    void rebuildKeepsLiveTokens() {
+        // given - 만료된 토큰 10개, 살아있는 토큰 5개
+        for (int i = 0; i < 10; i++) {
+            blacklistService.addToBlacklist("expired-" + i, LocalDateTime.now().minusMinutes(1));
+        }
+        for (int i = 0; i < 5; i++) {
+            blacklistService.addToBlacklist("live-" + i, LocalDateTime.now().plusHours(1));
+        }
+
+        // when - 만료 10 >= 남은 5 → 재구성
+        expiryWheel.advance();
+        blacklistService.cleanupExpiredTokens();
+
+        // then
+        for (int i = 0; i < 5; i++) {
+            assertThat(blacklistService.isBlacklisted("live-" + i)).isTrue();
+        }
+        assertThat(blacklistService.isBlacklisted("expired-0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성과 동시에 등록된 토큰도 등록 직후부터 차단 (false negative 없음)")
+    void noFalseNegativeDuringRebuild() {
+        // given
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger missed = new AtomicInteger();
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            while (running.get() && added.get() < 2_000) {
+                String token = "live-" + added.get();
+                blacklistService.addToBlacklist(token, LocalDateTime.now().plusHours(1));
+                added.incrementAndGet();
+                if (!blacklistService.isBlacklisted(token)) {
+                    missed.incrementAndGet();
+                }
+            }
+        });
+
+        // when - 살아있는 항목 수보다 많은 만료 항목을 쌓아 매 라운드 재구성
+        int expired = 0;
+        for (int round = 0; round < 50; round++) {
+            int count = added.get() + 1;
+            for (int i = 0; i < count; i++) {
+                blacklistService.addToBlacklist("expired-" + expired++, LocalDateTime.now().minusMinutes(1));
+            }
+            expiryWheel.advance();
+            blacklistService.cleanupExpiredTokens();
+        }
+        running.set(false);
+        writer.join();
+
+        // then
+        assertThat(missed.get()).isZero();
+        for (int i = 0; i < added.get(); i++) {
+            assertThat(blacklistService.isBlacklisted("live-" + i)).isTrue();
+        }
+    }
+}
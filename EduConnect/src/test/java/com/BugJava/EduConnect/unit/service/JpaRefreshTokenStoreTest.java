@@ -0,0 +1,155 @@
+package com.BugJava.EduConnect.unit.service;
+
+import com.BugJava.EduConnect.auth.repository.RefreshTokenRepository;
+import com.BugJava.EduConnect.auth.service.JpaRefreshTokenStore;
+import com.BugJava.EduConnect.common.entity.RefreshToken;
+import com.BugJava.EduConnect.common.service.ExpiryWheel;
+import com.BugJava.EduConnect.common.util.TokenDigest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JpaRefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private JpaRefreshTokenStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        store = new JpaRefreshTokenStore(refreshTokenRepository, transactionTemplate,
+                new ExpiryWheel(1000, new SimpleMeterRegistry()), 500);
+    }
+
+    @Test
+    @DisplayName("저장 직후 DB 반영 전에도 메모리에서 조회")
+    void getReadsFromMemoryBeforeFlush() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        // when
+        store.save(1L, "refresh-token", expiresAt);
+
+        // then
+        assertThat(store.get(1L)).isEqualTo(TokenDigest.of("refresh-token"));
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 연속 변경은 마지막 값만 한 번에 반영")
+    @SuppressWarnings("unchecked")
+    void flushCoalescesChangesPerUser() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        store.save(1L, "old-token", expiresAt);
+        store.save(1L, "new-token", expiresAt);
+        store.save(2L, "other-token", expiresAt);
+        store.delete(2L);
+
+        // when
+        store.flush();
+
+        // then
+        ArgumentCaptor<List<String>> ids = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<RefreshToken>> rows = ArgumentCaptor.forClass(List.class);
+        verify(refreshTokenRepository, times(1)).deleteAllByIdInBatch(ids.capture());
+        verify(refreshTokenRepository, times(1)).saveAll(rows.capture());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder("1", "2");
+        // 원문이 아니라 digest만 저장
+        assertThat(rows.getValue()).extracting(RefreshToken::getToken)
+                .containsExactly(TokenDigest.of("new-token").toHex());
+        assertThat(store.get(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 다음 주기에 재시도")
+    void failedFlushIsRetried() {
+        // given
+        store.save(1L, "refresh-token", System.currentTimeMillis() + 60_000);
+        doThrow(new IllegalStateException("db down")).doNothing()
+                .when(refreshTokenRepository).deleteAllByIdInBatch(any());
+
+        // when
+        store.flush();
+        store.flush();
+
+        // then
+        verify(refreshTokenRepository, times(2)).deleteAllByIdInBatch(any());
+        verify(refreshTokenRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("메모리에 없으면 테이블에서 읽어 채움 (다른 인스턴스가 워밍업 이후 발급한 토큰)")
+    void missReadsThroughToTable() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        when(refreshTokenRepository.findById("1"))
+                .thenReturn(Optional.of(new RefreshToken("1", TokenDigest.of("issued-elsewhere").toHex(), expiresAt)));
+
+        // when
+        TokenDigest first = store.get(1L);
+        TokenDigest second = store.get(1L);
+
+        // then - 두 번째는 메모리에서
+        assertThat(first).isEqualTo(TokenDigest.of("issued-elsewhere"));
+        assertThat(second).isEqualTo(first);
+        verify(refreshTokenRepository, times(1)).findById("1");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 교체한 토큰은 reload로 테이블에서 다시 읽음")
+    void reloadPicksUpRotationFromOtherInstance() {
+        // given - 이 인스턴스에 저장 후 반영 완료, 이후 다른 인스턴스가 교체
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        store.save(1L, "old-token", expiresAt);
+        store.flush();
+        when(refreshTokenRepository.findById("1"))
+                .thenReturn(Optional.of(new RefreshToken("1", TokenDigest.of("rotated-token").toHex(), expiresAt)));
+
+        // when
+        TokenDigest reloaded = store.reload(1L);
+
+        // then
+        assertThat(reloaded).isEqualTo(TokenDigest.of("rotated-token"));
+        assertThat(store.get(1L)).isEqualTo(TokenDigest.of("rotated-token"));
+    }
+
+    @Test
+    @DisplayName("아직 반영되지 않은 삭제가 있으면 테이블의 예전 행을 읽지 않음")
+    void pendingDeleteIsNotReadThrough() {
+        // given
+        store.save(1L, "refresh-token", System.currentTimeMillis() + 60_000);
+
+        // when
+        store.delete(1L);
+
+        // then
+        assertThat(store.get(1L)).isNull();
+        verify(refreshTokenRepository, never()).findById(any());
+    }
+}
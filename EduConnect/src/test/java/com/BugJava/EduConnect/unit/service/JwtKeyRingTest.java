@@ -0,0 +1,128 @@
+package com.BugJava.EduConnect.unit.service;
+
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.common.config.JwtKeyProperties;
+import com.BugJava.EduConnect.common.dto.JwtPrincipal;
+import com.BugJava.EduConnect.common.service.JwtKeyRing;
+import com.BugJava.EduConnect.common.service.VerifiedTokenCache;
+import com.BugJava.EduConnect.common.util.TokenDigest;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String DEFAULT_SECRET = "testSecretKeyForJwtTokenGenerationMinimum32Characters";
+    private static final String NEW_SECRET = "rotatedSecretKeyForJwtTokenGenerationMinimum32Chars";
+
+    private JwtKeyProperties properties;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtKeyProperties();
+        verifiedTokenCache = new VerifiedTokenCache(100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("키 교체 후에도 이전 키로 서명된 토큰과 kid 없는 토큰을 검증")
+    void verifiesTokensOfPreviousKeyAfterRotation() {
+        // given - 교체 전 (default 키로 서명, kid 헤더 없음)
+        JwtKeyRing before = keyRing();
+        String legacyToken = Jwts.builder().subject("1").signWith(before.current().signingKey()).compact();
+
+        // when - 새 키를 active로 교체
+        JwtKeyProperties.Key newKey = new JwtKeyProperties.Key();
+        newKey.setSecret(NEW_SECRET);
+        properties.getKeys().put("2025-10", newKey);
+        properties.setActiveKid("2025-10");
+        JwtKeyRing after = keyRing();
+        String newToken = sign(after);
+
+        // then
+        assertThat(after.current().activeKid()).isEqualTo("2025-10");
+        assertThat(after.parserFor(legacyToken).parseSignedClaims(legacyToken).getPayload().getSubject()).isEqualTo("1");
+        assertThat(after.parserFor(newToken).parseSignedClaims(newToken).getPayload().getSubject()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("폐기 시각이 지난 키로 서명된 토큰은 거부")
+    void rejectsTokensOfRetiredKey() {
+        // given
+        JwtKeyProperties.Key newKey = new JwtKeyProperties.Key();
+        newKey.setSecret(NEW_SECRET);
+        properties.getKeys().put("2025-10", newKey);
+        JwtKeyRing keyRing = keyRing();
+        String oldToken = sign(keyRing); // default 키로 서명
+
+        // when - 새 키로 교체하고 default 키 폐기
+        properties.setActiveKid("2025-10");
+        JwtKeyProperties.Key retired = new JwtKeyProperties.Key();
+        retired.setRetireAt(Instant.now().minusSeconds(1));
+        properties.getKeys().put(JwtKeyProperties.DEFAULT_KID, retired);
+        keyRing.retireExpiredKeys();
+
+        // then
+        assertThat(keyRing.current().parsers()).containsOnlyKeys("2025-10");
+        assertThatThrownBy(() -> keyRing.parserFor(oldToken))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    @DisplayName("키 폐기 시 그 kid로 검증된 캐시 항목만 제거")
+    void retirementEvictsOnlyEntriesOfRetiredKid() {
+        // given - default 키와 새 키로 각각 검증된 토큰이 캐시에 있음
+        JwtKeyProperties.Key newKey = new JwtKeyProperties.Key();
+        newKey.setSecret(NEW_SECRET);
+        properties.getKeys().put("2025-10", newKey);
+        JwtKeyRing keyRing = keyRing();
+        String oldToken = sign(keyRing);
+        properties.setActiveKid("2025-10");
+        JwtKeyRing rotated = keyRing();
+        String newToken = sign(rotated);
+
+        TokenDigest oldDigest = TokenDigest.of(oldToken);
+        TokenDigest newDigest = TokenDigest.of(newToken);
+        verifiedTokenCache.put(oldDigest, principal(), JwtKeyRing.kidOf(oldToken));
+        verifiedTokenCache.put(newDigest, principal(), JwtKeyRing.kidOf(newToken));
+
+        // when - default 키 폐기
+        JwtKeyProperties.Key retired = new JwtKeyProperties.Key();
+        retired.setRetireAt(Instant.now().minusSeconds(1));
+        properties.getKeys().put(JwtKeyProperties.DEFAULT_KID, retired);
+        rotated.retireExpiredKeys();
+
+        // then
+        assertThat(verifiedTokenCache.get(oldDigest)).isNull();
+        assertThat(verifiedTokenCache.get(newDigest)).isNotNull();
+    }
+
+    private static JwtPrincipal principal() {
+        return new JwtPrincipal(1L, Role.STUDENT, System.currentTimeMillis() + 60_000, 0L, "jti");
+    }
+
+    private JwtKeyRing keyRing() {
+        JwtKeyRing keyRing = new JwtKeyRing(properties, verifiedTokenCache);
+        ReflectionTestUtils.setField(keyRing, "defaultSecret", DEFAULT_SECRET);
+        keyRing.init();
+        return keyRing;
+    }
+
+    private static String sign(JwtKeyRing keyRing) {
+        JwtKeyRing.KeySet keys = keyRing.current();
+        return Jwts.builder()
+                .header().keyId(keys.activeKid()).and()
+                .subject("1")
+                .signWith(keys.signingKey())
+                .compact();
+    }
+}
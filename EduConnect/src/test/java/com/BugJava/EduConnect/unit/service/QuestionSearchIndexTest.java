@@ -0,0 +1,159 @@
+package com.BugJava.EduConnect.unit.service;
+
+import com.BugJava.EduConnect.auth.enums.Track;
+import com.BugJava.EduConnect.qnaboard.service.QuestionSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private QuestionSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new QuestionSearchIndex(new SimpleMeterRegistry());
+        index.markReady();
+        index.put(doc(1L, "Spring Boot 기초 질문", "Spring Boot 설정에 대해", Track.BACKEND, 1));
+        index.put(doc(2L, "React 질문입니다", "React Hook과 Spring 연동", Track.FRONTEND, 2));
+        index.put(doc(3L, "C++ 포인터 질문", "포인터(*) 관련", Track.BACKEND, 3));
+        index.put(doc(4L, "SQL 질문 (SELECT * FROM)", "쿼리 관련", Track.BACKEND, 4));
+    }
+
+    @Test
+    @DisplayName("한글/영문/기호 검색어 - 대소문자 무시, 제목 또는 본문 매칭")
+    void matchesTitleOrContent() {
+        assertThat(ids(index.search("spring", null))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.search("포인터", null))).containsExactly(3L);
+        assertThat(ids(index.search("C++", null))).containsExactly(3L);
+        assertThat(ids(index.search("존재하지않는키워드", null))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("bigram은 모두 있지만 검색어가 이어져 있지 않은 문서는 제외 (LIKE '%검색어%'와 같은 결과)")
+    void bigramOnlyMatchIsNotAHit() {
+        // given - "abab"의 bigram(ab, ba)을 모두 갖지만 "abab"는 없음
+        index.put(doc(5L, "ab ba 질문", "bab 없음", Track.BACKEND, 5));
+        index.put(doc(6L, "abab 질문", "내용", Track.BACKEND, 6));
+
+        // then
+        assertThat(ids(index.search("abab", null))).containsExactly(6L);
+        assertThat(ids(index.search("ab ba", null))).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("트랙 필터 적용")
+    void filtersByTrack() {
+        assertThat(ids(index.search("spring", Track.FRONTEND))).containsExactly(2L);
+        assertThat(ids(index.search("질문", Track.BACKEND))).containsExactlyInAnyOrder(1L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("관련도순 - 제목 매칭이 본문 매칭보다 앞")
+    void ordersByRelevance() {
+        List<QuestionSearchIndex.Hit> hits = index.search("spring", null).stream()
+                .sorted(QuestionSearchIndex.Hit.MOST_RELEVANT_FIRST)
+                .toList();
+
+        assertThat(ids(hits)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("put/remove(커밋된 변경)는 즉시 반영")
+    void updateAndRemove() {
+        // when - 제목 수정
+        QuestionSearchIndex.Document previous =
+                index.put(doc(1L, "JPA 질문", "영속성 컨텍스트", Track.BACKEND, 1));
+
+        // then
+        assertThat(previous.id()).isEqualTo(1L);
+        assertThat(ids(index.search("spring", null))).containsExactly(2L);
+        assertThat(ids(index.search("jpa", null))).containsExactly(1L);
+
+        // when - 삭제
+        index.remove(3L);
+
+        // then
+        assertThat(ids(index.search("포인터", null))).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 삭제는 커밋 전까지 공유 색인에 반영되지 않고, 롤백되면 버려진다")
+    void stagedRemovalAppliesOnlyOnCommit() {
+        // given - 적재 중인 색인 (롤백된 삭제가 적재를 막으면 안 됨)
+        QuestionSearchIndex loading = new QuestionSearchIndex(new SimpleMeterRegistry());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            loading.stageRemoval(1L);
+            loading.stageRemoval(2L);
+
+            // when - 롤백
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        loading.load(doc(1L, "Spring 질문", "내용", Track.BACKEND, 1));
+        loading.markReady();
+
+        // then
+        assertThat(ids(loading.search("spring", null))).containsExactly(1L);
+
+        // when - 커밋된 삭제
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            loading.stageRemoval(1L);
+            assertThat(ids(loading.search("spring", null))).isEmpty(); // 같은 트랜잭션에서는 바로 안 보임
+            List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+            syncs.forEach(TransactionSynchronization::afterCommit);
+            syncs.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(ids(loading.search("spring", null))).isEmpty();
+        assertThat(loading.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("적재 전이거나 두 글자 미만 검색어면 null (DB 검색으로 대체)")
+    void returnsNullWhenIndexCannotAnswer() {
+        QuestionSearchIndex loading = new QuestionSearchIndex(new SimpleMeterRegistry());
+
+        assertThat(loading.search("spring", null)).isNull();
+        assertThat(index.search(" a ", null)).isNull();
+    }
+
+    @Test
+    @DisplayName("적재 중 삭제된 질문은 적재 배치가 되살리지 않음")
+    void loadDoesNotResurrectRemovedDocuments() {
+        QuestionSearchIndex loading = new QuestionSearchIndex(new SimpleMeterRegistry());
+
+        loading.remove(1L);
+        loading.load(doc(1L, "Spring 질문", "내용", Track.BACKEND, 1));
+        loading.load(doc(2L, "Spring 질문 2", "내용", Track.BACKEND, 2));
+        loading.markReady();
+
+        assertThat(ids(loading.search("spring", null))).containsExactly(2L);
+    }
+
+    private static QuestionSearchIndex.Document doc(long id, String title, String content, Track track, int minutes) {
+        return QuestionSearchIndex.document(id, title, content, track, BASE.plusMinutes(minutes));
+    }
+
+    private static List<Long> ids(List<QuestionSearchIndex.Hit> hits) {
+        return hits.stream().map(QuestionSearchIndex.Hit::id).toList();
+    }
+}
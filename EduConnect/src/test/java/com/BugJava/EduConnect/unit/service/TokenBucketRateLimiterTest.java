@@ -0,0 +1,55 @@
+package com.BugJava.EduConnect.unit.service;
+
+import com.BugJava.EduConnect.common.service.TokenBucketRateLimiter;
+import com.BugJava.EduConnect.common.service.TokenBucketRateLimiter.Decision;
+import com.BugJava.EduConnect.common.service.TokenBucketRateLimiter.Limit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private final Limit limit = new Limit("test", 3, 60_000);
+
+    @Test
+    @DisplayName("용량을 넘으면 거부하고 Retry-After를 알려준다")
+    void rejectsAfterCapacity() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(100, new SimpleMeterRegistry());
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryConsume(limit, "10.0.0.1").allowed()).isTrue();
+        }
+        Decision rejected = rateLimiter.tryConsume(limit, "10.0.0.1");
+
+        // then
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfterSeconds()).isBetween(1L, 20L);
+        // 다른 키는 영향 없음
+        assertThat(rateLimiter.tryConsume(limit, "10.0.0.2").allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("키 수가 상한을 넘어도 새 키는 각자 버킷을 받고, 버킷 수는 상한으로 제한된다")
+    void boundedKeysWithoutSharedBucket() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(100, meterRegistry);
+
+        // when - 무작위 키 1,000개
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(rateLimiter.tryConsume(limit, "spray-" + i).allowed()).isTrue();
+        }
+        rateLimiter.evictIdleBuckets();
+
+        // then - 처음 보는 정상 키는 (공용 버킷이었다면 이미 소진됐을) 용량 전체를 쓴다
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryConsume(limit, "legit").allowed()).isTrue();
+        }
+        assertThat(meterRegistry.get("rate.limit.buckets").gauge().value()).isLessThanOrEqualTo(100.0);
+    }
+}
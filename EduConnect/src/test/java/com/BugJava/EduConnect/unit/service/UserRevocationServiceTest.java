@@ -0,0 +1,95 @@
+package com.BugJava.EduConnect.unit.service;
+
+import com.BugJava.EduConnect.auth.dto.UserRevocation;
+import com.BugJava.EduConnect.auth.enums.Role;
+import com.BugJava.EduConnect.auth.repository.UserRepository;
+import com.BugJava.EduConnect.common.dto.JwtPrincipal;
+import com.BugJava.EduConnect.common.service.ExpiryWheel;
+import com.BugJava.EduConnect.common.service.UserRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserRevocationServiceTest {
+
+    private UserRepository userRepository;
+    private UserRevocationService revocationService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        revocationService = newService();
+    }
+
+    @Test
+    @DisplayName("폐기 이전에 발급된 토큰만 폐기되고 이후 발급분은 유효")
+    void revokesTokensIssuedBeforeEpoch() {
+        // given
+        long now = System.currentTimeMillis();
+        JwtPrincipal before = principal(1L, now / 1000);
+        JwtPrincipal otherUser = principal(2L, now / 1000);
+
+        // when
+        revocationService.revokeAll(1L);
+        JwtPrincipal after = principal(1L, revocationService.issuedAtFor(1L, System.currentTimeMillis()));
+
+        // then
+        assertThat(revocationService.isRevoked(before)).isTrue();
+        assertThat(revocationService.isRevoked(after)).isFalse(); // 같은 초 안에 재로그인해도 유효
+        assertThat(revocationService.isRevoked(otherUser)).isFalse();
+        verify(userRepository).raiseTokensValidAfter(eq(1L), anyLong());
+    }
+
+    @Test
+    @DisplayName("재시작(새 인스턴스) 후에도 DB에 기록된 폐기 epoch로 이전 토큰을 계속 거부")
+    void revocationSurvivesRestart() {
+        // given - 재시작 전에 기록된 폐기
+        long notBefore = System.currentTimeMillis() / 1000 + 1;
+        UserRevocation persisted = revocation(1L, notBefore);
+        when(userRepository.findByTokensValidAfterGreaterThan(anyLong())).thenReturn(List.of(persisted));
+
+        // when - 기동 시 워밍업과 같은 경로
+        UserRevocationService restarted = newService();
+        int applied = restarted.sync();
+
+        // then
+        assertThat(applied).isEqualTo(1);
+        assertThat(restarted.isRevoked(principal(1L, notBefore - 1))).isTrue();
+        assertThat(restarted.isRevoked(principal(1L, notBefore))).isFalse();
+        assertThat(restarted.sync()).isZero(); // 이미 반영된 값은 다시 예약하지 않음
+    }
+
+    private UserRevocationService newService() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new UserRevocationService(new ExpiryWheel(1000, meterRegistry), userRepository,
+                86_400_000L, 3_600_000L, 16, meterRegistry);
+    }
+
+    private static UserRevocation revocation(Long userId, long tokensValidAfter) {
+        return new UserRevocation() {
+            @Override
+            public Long getId() {
+                return userId;
+            }
+
+            @Override
+            public Long getTokensValidAfter() {
+                return tokensValidAfter;
+            }
+        };
+    }
+
+    private static JwtPrincipal principal(Long userId, long issuedAtSeconds) {
+        return new JwtPrincipal(userId, Role.STUDENT, System.currentTimeMillis() + 60_000, issuedAtSeconds, "jti");
+    }
+}
@@ -0,0 +1,62 @@
+package com.BugJava.EduConnect.unit.util;
+
+import com.BugJava.EduConnect.common.util.LongLongHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("값은 더 클 때만 갱신되고, 기대값이 같을 때만 제거")
+    void putIfGreaterAndConditionalRemove() {
+        // given
+        LongLongHashMap map = new LongLongHashMap(4);
+        map.putIfGreater(1L, 100L);
+
+        // when
+        map.putIfGreater(1L, 50L);
+
+        // then
+        assertThat(map.get(1L, -1L)).isEqualTo(100L);
+        assertThat(map.remove(1L, 50L)).isFalse();
+        assertThat(map.remove(1L, 100L)).isTrue();
+        assertThat(map.get(1L, -1L)).isEqualTo(-1L);
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("삽입/삭제를 섞어도 HashMap과 같은 결과 (확장, 삭제 후 탐색 체인 유지)")
+    void matchesHashMapUnderRandomOperations() {
+        // given
+        LongLongHashMap map = new LongLongHashMap(4);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 50_000; i++) {
+            long key = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                Long current = expected.get(key);
+                if (current != null && map.remove(key, current)) {
+                    expected.remove(key);
+                }
+            } else {
+                long value = random.nextInt(1_000_000);
+                map.putIfGreater(key, value);
+                expected.merge(key, value, Math::max);
+            }
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 2_000; key++) {
+            assertThat(map.get(key, -1L)).isEqualTo(expected.getOrDefault(key, -1L));
+        }
+    }
+}